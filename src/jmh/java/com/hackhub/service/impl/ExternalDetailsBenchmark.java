@@ -0,0 +1,60 @@
+package com.hackhub.service.impl;
+
+import com.hackhub.model.Event;
+import com.khalid.scraper.service.BenchFixtures;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The tiered extraction for external event sites (meta tags, then content
+ * blocks, then the body), on an already parsed page and including the
+ * Jsoup parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExternalDetailsBenchmark {
+
+    private String html;
+    private Document doc;
+
+    @Setup
+    public void load() {
+        html = BenchFixtures.load("external-event.html");
+        doc = Jsoup.parse(html, "https://hacknorth.example/");
+    }
+
+    @Benchmark
+    public Event extract() {
+        Event event = new Event();
+        ScraperServiceImpl.applyExternalDetails(event, doc, true);
+        return event;
+    }
+
+    @Benchmark
+    public Event parseAndExtract() {
+        Event event = new Event();
+        ScraperServiceImpl.applyExternalDetails(event, Jsoup.parse(html, "https://hacknorth.example/"), true);
+        return event;
+    }
+
+    @Benchmark
+    public String metaContent() {
+        return ScraperServiceImpl.getMetaContent(doc, "og:description", "description", "twitter:description");
+    }
+}
@@ -0,0 +1,88 @@
+package com.hackhub.store;
+
+import com.hackhub.model.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain and location filtering over a synthetic corpus: the linear
+ * {@link EventMatcher} scan the live scrapers do vs. an {@link EventIndex}
+ * query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventFilterBenchmark {
+
+    private static final String[] TOPICS = { "Machine Learning", "Web3 Blockchain", "Climate", "Health",
+            "Fintech", "Hardware IoT", "Game Jam", "Open Source", "Cybersecurity", "Education" };
+    private static final String[] LOCATIONS = { "Online", "Toronto, ON, Canada", "Cambridge, MA, USA",
+            "London, UK", "Berlin, Germany", "Remote / Worldwide", "Bengaluru, India", "San Francisco, CA" };
+
+    @Param({ "1000", "10000" })
+    int size;
+
+    @Param({ "machine learning|online", "climate|toronto", "|london" })
+    String filter;
+
+    private List<Event> events;
+    private EventIndex index;
+    private String domain;
+    private String location;
+
+    @Setup
+    public void build() {
+        Random random = new Random(42);
+        events = new ArrayList<>(size);
+        index = new EventIndex();
+        for (int i = 0; i < size; i++) {
+            String topic = TOPICS[random.nextInt(TOPICS.length)];
+            Event event = new Event();
+            event.setNaturalKey("bench:" + i);
+            event.setProvider(i % 2 == 0 ? "devpost" : "mlh");
+            event.setTitle(topic + " Hackathon #" + i);
+            event.setBlurb("Build " + topic.toLowerCase() + " projects with mentors and prizes.");
+            event.setDescription("<p>Teams of up to four build " + topic + " prototypes over a weekend. "
+                    + "Workshops, <strong>free food</strong> and prizes for the best hacks.</p>");
+            event.setLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+            events.add(event);
+            index.add(event);
+        }
+        String[] parts = filter.split("\\|", -1);
+        domain = parts[0].isEmpty() ? null : parts[0];
+        location = parts[1].isEmpty() ? null : parts[1];
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int matched = 0;
+        for (Event event : events) {
+            if (EventMatcher.matches(event, domain, location))
+                matched++;
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public Set<String> indexQuery() {
+        return index.query(null, domain, location);
+    }
+}
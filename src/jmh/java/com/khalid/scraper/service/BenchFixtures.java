@@ -0,0 +1,25 @@
+package com.khalid.scraper.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads the checked-in pages under {@code src/jmh/resources/bench}.
+ */
+public final class BenchFixtures {
+
+    private BenchFixtures() {
+    }
+
+    public static String load(String name) {
+        try (InputStream in = BenchFixtures.class.getResourceAsStream("/bench/" + name)) {
+            if (in == null)
+                throw new IllegalStateException("Missing benchmark fixture " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
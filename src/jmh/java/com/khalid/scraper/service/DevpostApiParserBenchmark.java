@@ -0,0 +1,54 @@
+package com.khalid.scraper.service;
+
+import com.khalid.scraper.model.HackathonDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Devpost API listing page (9 hackathons), decoded by the streaming
+ * reader straight from the response bytes vs. the tree-based decoding of
+ * the body string. With {@code -prof gc}, {@code gc.alloc.rate.norm} is the
+ * garbage per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DevpostApiParserBenchmark {
+
+    private byte[] bytes;
+
+    @Setup
+    public void load() {
+        bytes = BenchFixtures.load("devpost-hackathons-page.json").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<HackathonDTO> streaming() throws IOException {
+        return DevpostApiParser.parse(
+                new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+    }
+
+    /** What the client did before: read the body into a String, then build a tree. */
+    @Benchmark
+    public List<HackathonDTO> tree() {
+        return DevpostApiParser.parseTree(new String(bytes, StandardCharsets.UTF_8));
+    }
+}
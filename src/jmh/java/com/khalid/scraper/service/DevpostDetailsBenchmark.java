@@ -0,0 +1,44 @@
+package com.khalid.scraper.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jsoup parse of a Devpost challenge page plus the detail selectors used
+ * to enrich API listings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DevpostDetailsBenchmark {
+
+    private static final String BASE_URI = "https://climate-hack-2026.devpost.com/";
+
+    private String html;
+
+    @Setup
+    public void load() {
+        html = BenchFixtures.load("devpost-challenge.html");
+        if (DevpostService.parseDetails(html, BASE_URI).size() != 5)
+            throw new IllegalStateException("Fixture no longer matches the detail selectors");
+    }
+
+    @Benchmark
+    public Map<String, String> parseDetails() {
+        return DevpostService.parseDetails(html, BASE_URI);
+    }
+}
@@ -0,0 +1,138 @@
+package com.hackhub.browser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Which requests a page load may skip: whole resource types (DevTools names
+ * such as Image, Font, Stylesheet) and URL patterns, minus anything matching
+ * an allow pattern. Patterns use the DevTools wildcard syntax, where
+ * {@code *} matches any run of characters and {@code ?} a single one, and
+ * must match the whole URL.
+ */
+public final class BlockingProfile {
+
+    public static final BlockingProfile NONE = new BlockingProfile("none", List.of(), List.of(), List.of());
+
+    private static final Map<String, String> RESOURCE_TYPES = new LinkedHashMap<>();
+
+    static {
+        for (String type : new String[] { "Document", "Stylesheet", "Image", "Media", "Font", "Script", "TextTrack",
+                "XHR", "Fetch", "Prefetch", "EventSource", "WebSocket", "Manifest", "SignedExchange", "Ping",
+                "CSPViolationReport", "Preflight", "Other" }) {
+            RESOURCE_TYPES.put(type.toLowerCase(Locale.ROOT), type);
+        }
+    }
+
+    private final String name;
+    private final Set<String> blockTypes;
+    private final List<String> blockUrls;
+    private final List<String> allowUrls;
+    private final List<Pattern> blockPatterns;
+    private final List<Pattern> allowPatterns;
+
+    /**
+     * @throws IllegalArgumentException for a resource type DevTools does not
+     *                                  know, so a typo fails at startup
+     */
+    public BlockingProfile(String name, Collection<String> blockTypes, List<String> blockUrls,
+            List<String> allowUrls) {
+        this.name = name;
+        Set<String> types = new LinkedHashSet<>();
+        for (String type : blockTypes) {
+            if (type.isBlank())
+                continue;
+            String canonical = RESOURCE_TYPES.get(type.trim().toLowerCase(Locale.ROOT));
+            if (canonical == null)
+                throw new IllegalArgumentException("Unknown resource type '" + type + "' in blocking profile '"
+                        + name + "', expected one of " + RESOURCE_TYPES.values());
+            types.add(canonical);
+        }
+        this.blockTypes = Set.copyOf(types);
+        this.blockUrls = clean(blockUrls);
+        this.allowUrls = clean(allowUrls);
+        this.blockPatterns = this.blockUrls.stream().map(BlockingProfile::compile).toList();
+        this.allowPatterns = this.allowUrls.stream().map(BlockingProfile::compile).toList();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEmpty() {
+        return blockTypes.isEmpty() && blockUrls.isEmpty();
+    }
+
+    /**
+     * Should a request for {@code url}, of DevTools resource type
+     * {@code resourceType}, be failed? Allow patterns win over everything.
+     */
+    public boolean blocks(String url, String resourceType) {
+        if (url == null || matchesAny(allowPatterns, url))
+            return false;
+        return (resourceType != null && blockTypes.contains(resourceType)) || matchesAny(blockPatterns, url);
+    }
+
+    /**
+     * {@code Fetch.enable} request patterns: only the requests this profile
+     * might block are paused, everything else loads untouched.
+     */
+    public List<Map<String, Object>> fetchPatterns() {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String type : blockTypes)
+            patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Request"));
+        for (String url : blockUrls)
+            patterns.add(Map.of("urlPattern", url, "requestStage", "Request"));
+        return patterns;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("blockTypes", blockTypes);
+        out.put("blockUrls", blockUrls);
+        out.put("allowUrls", allowUrls);
+        return out;
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String url) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(url).matches())
+                return true;
+        }
+        return false;
+    }
+
+    private static List<String> clean(List<String> patterns) {
+        return patterns.stream().map(String::trim).filter(p -> !p.isEmpty()).toList();
+    }
+
+    /** "*google-analytics.com*" -> ".*\Qgoogle-analytics.com\E.*" */
+    static Pattern compile(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '\\' && i + 1 < glob.length()) {
+                literal.append(glob.charAt(++i));
+            } else if (c == '*' || c == '?') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty())
+            regex.append(Pattern.quote(literal.toString()));
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
@@ -0,0 +1,183 @@
+package com.hackhub.browser;
+
+import com.hackhub.util.TimingStats;
+import com.khalid.scraper.replay.FixtureRecorder;
+import com.khalid.scraper.util.LogSampler;
+import com.khalid.scraper.util.ScrapeMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Waits for a page to become ready according to a provider-specific
+ * condition instead of sleeping for a fixed time.
+ *
+ * Conditions are evaluated with a single script call per poll (never
+ * findElement), so the driver's implicit wait does not slow down polling.
+ * Every wait is recorded per label, e.g. "devpost-listing", so the real
+ * time-to-ready of each page type is visible. While fixtures are being
+ * recorded (see {@link FixtureRecorder}), every page is captured once it is
+ * ready.
+ */
+@Slf4j
+@Component
+public class PageReadiness {
+
+    // Timeouts and capture failures happen per page, so they are rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
+    /**
+     * A readiness check polled against the current page. Conditions may keep
+     * state between polls, so create a fresh one for every wait.
+     */
+    @FunctionalInterface
+    public interface Condition {
+        boolean isReady(WebDriver driver);
+
+        default Condition or(Condition other) {
+            return driver -> isReady(driver) || other.isReady(driver);
+        }
+    }
+
+    private final long timeoutMs;
+    private final long pollMs;
+    private final long quietMs;
+    private final long emptyQuietMs;
+
+    private final FixtureRecorder recorder = FixtureRecorder.shared();
+
+    private final Map<String, TimingStats> readyStats = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> timeouts = new ConcurrentHashMap<>();
+
+    public PageReadiness(@Value("${scraper.readiness.timeout-ms:15000}") long timeoutMs,
+            @Value("${scraper.readiness.poll-ms:100}") long pollMs,
+            @Value("${scraper.readiness.quiet-ms:500}") long quietMs,
+            @Value("${scraper.readiness.empty-quiet-ms:2000}") long emptyQuietMs) {
+        this.timeoutMs = timeoutMs;
+        this.pollMs = pollMs;
+        this.quietMs = quietMs;
+        this.emptyQuietMs = emptyQuietMs;
+    }
+
+    /**
+     * Block until {@code condition} holds or the configured timeout elapses.
+     *
+     * @return true if the page became ready, false on timeout (the caller
+     *         decides whether a partially loaded page is still usable)
+     */
+    public boolean await(WebDriver driver, String label, Condition condition) throws InterruptedException {
+        return await(driver, label, condition, timeoutMs);
+    }
+
+    public boolean await(WebDriver driver, String label, Condition condition, long maxWaitMs)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + maxWaitMs * 1_000_000L;
+        boolean ready = false;
+        while (true) {
+            try {
+                ready = condition.isReady(driver);
+            } catch (Exception e) {
+                // page still navigating / script context not there yet
+            }
+            if (ready || System.nanoTime() >= deadline)
+                break;
+            Thread.sleep(pollMs);
+        }
+        long elapsed = System.nanoTime() - start;
+        readyStats.computeIfAbsent(label, k -> new TimingStats()).record(elapsed);
+        // Labels are "<provider>-<page kind>"
+        int dash = label.indexOf('-');
+        ScrapeMetrics.record("readiness", dash > 0 ? label.substring(0, dash) : label,
+                ready ? "ready" : "timeout", elapsed);
+        if (!ready) {
+            timeouts.computeIfAbsent(label, k -> new AtomicLong()).incrementAndGet();
+            SAMPLER.at(log, Level.WARN, "readiness.timeout").addKeyValue("label", label)
+                    .addKeyValue("maxWaitMs", maxWaitMs).log("Page not ready in time, continuing");
+        }
+        if (recorder.isRecording())
+            record(driver);
+        return ready;
+    }
+
+    /** Keep the page as the scraper is about to read it, for offline replay. */
+    private void record(WebDriver driver) {
+        try {
+            recorder.recordRendered(driver.getCurrentUrl(), driver.getPageSource());
+        } catch (Exception e) {
+            SAMPLER.at(log, Level.WARN, "readiness.record").addKeyValue("error", e.getMessage())
+                    .log("Could not capture page for replay");
+        }
+    }
+
+    /** Ready as soon as at least one element matches {@code css}. */
+    public Condition selectorPresent(String css) {
+        return driver -> Boolean.TRUE.equals(script(driver,
+                "return document.querySelector(arguments[0]) !== null;", css));
+    }
+
+    /**
+     * Ready once the number of elements matching {@code css} has not changed
+     * for the quiet period, i.e. lazy-rendered lists have settled. No matches
+     * (a page past the last one, a search without hits) only counts once the
+     * document has loaded completely and stayed empty for the longer
+     * empty-quiet period, as lists often render after the load event.
+     */
+    public Condition countStable(String css) {
+        long[] last = { -1, 0 }; // count, time it last changed
+        return driver -> {
+            Object result = script(driver, "const n = document.querySelectorAll(arguments[0]).length;"
+                    + " return document.readyState === 'loading'"
+                    + " || (n === 0 && document.readyState !== 'complete') ? -1 : n;", css);
+            long count = result instanceof Number n ? n.longValue() : -1;
+            return settled(last, count, count == 0 ? emptyQuietMs : quietMs);
+        };
+    }
+
+    /**
+     * Ready once the document has loaded and no new resource requests have
+     * started for the quiet period. Used for arbitrary external sites where no
+     * selector is known.
+     */
+    public Condition networkIdle() {
+        long[] last = { -1, 0 };
+        return driver -> {
+            Object result = script(driver,
+                    "return document.readyState !== 'complete' ? -1 : performance.getEntriesByType('resource').length;");
+            return settled(last, result instanceof Number n ? n.longValue() : -1, quietMs);
+        };
+    }
+
+    private boolean settled(long[] last, long value, long quiet) {
+        long now = System.nanoTime();
+        if (value < 0 || value != last[0]) {
+            last[0] = value;
+            last[1] = now;
+            return false;
+        }
+        return now - last[1] >= quiet * 1_000_000L;
+    }
+
+    private Object script(WebDriver driver, String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        readyStats.forEach((label, timing) -> {
+            Map<String, Object> entry = timing.toMap();
+            AtomicLong timedOut = timeouts.get(label);
+            entry.put("timeouts", timedOut == null ? 0 : timedOut.get());
+            stats.put(label, entry);
+        });
+        return stats;
+    }
+}
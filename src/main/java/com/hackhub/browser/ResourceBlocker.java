@@ -0,0 +1,297 @@
+package com.hackhub.browser;
+
+import com.hackhub.util.TimingStats;
+import com.khalid.scraper.util.LogSampler;
+import com.khalid.scraper.util.ScrapeMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps Chrome from downloading what a scrape never reads (images, fonts,
+ * media, trackers, ...) using DevTools {@code Fetch} interception, with a
+ * {@link BlockingProfile} chosen per provider for every navigation.
+ *
+ * Only requests a profile might block are paused: they are failed unless an
+ * allow pattern matches, while the rest of the page loads without a round
+ * trip. A share of navigations ({@code baseline-rate}) is loaded without
+ * blocking, so the bytes and load time each provider's profile saves are
+ * measured against live pages. Bytes are what Chrome reports as received
+ * per response, headers included.
+ *
+ * Profiles come from {@code scraper.blocking.profiles.<name>.*} and are
+ * mapped to providers ("devpost", "mlh", "external", see
+ * {@link ScrapeMetrics#providerOf(String)}) by
+ * {@code scraper.blocking.providers.<provider>=<name>}.
+ */
+@Slf4j
+@Component
+public class ResourceBlocker {
+
+    // Profile failures happen per navigation, so they are rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
+    private static final Event<Map<String, Object>> REQUEST_PAUSED = new Event<>("Fetch.requestPaused",
+            input -> input.read(Json.MAP_TYPE));
+    private static final Event<Map<String, Object>> LOADING_FINISHED = new Event<>("Network.loadingFinished",
+            input -> input.read(Json.MAP_TYPE));
+
+    private final boolean enabled;
+    private final double baselineRate;
+    private final Map<String, BlockingProfile> profiles = new LinkedHashMap<>();
+    private final Map<String, BlockingProfile> byProvider = new LinkedHashMap<>();
+
+    private final Map<WebDriver, Session> sessions = new ConcurrentHashMap<>();
+    // "devpost/blocked" -> page loads under that provider's profile
+    private final Map<String, LoadStats> loads = new ConcurrentHashMap<>();
+    // "lean/Image" -> requests failed
+    private final Map<String, LongAdder> blocked = new ConcurrentHashMap<>();
+    private final AtomicLong unsupported = new AtomicLong();
+
+    /**
+     * {@code scraper.blocking.profiles.<name>.*}; lists are comma separated.
+     */
+    public record ProfileProperties(List<String> blockTypes, List<String> blockUrls, List<String> allowUrls) {
+    }
+
+    /** A page load started by {@link #start(WebDriver, String)}. */
+    public record Load(Session session, String provider, BlockingProfile profile) {
+    }
+
+    public ResourceBlocker(Environment environment,
+            @Value("${scraper.blocking.enabled:true}") boolean enabled,
+            @Value("${scraper.blocking.baseline-rate:0.05}") double baselineRate) {
+        this.enabled = enabled;
+        this.baselineRate = Math.max(0.0, Math.min(1.0, baselineRate));
+        Binder binder = Binder.get(environment);
+        binder.bind("scraper.blocking.profiles", Bindable.mapOf(String.class, ProfileProperties.class))
+                .orElse(Map.of())
+                .forEach((name, props) -> profiles.put(name, new BlockingProfile(name,
+                        orEmpty(props.blockTypes()), orEmpty(props.blockUrls()), orEmpty(props.allowUrls()))));
+        binder.bind("scraper.blocking.providers", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of())
+                .forEach((provider, name) -> {
+                    BlockingProfile profile = profiles.get(name);
+                    if (profile == null)
+                        throw new IllegalArgumentException("scraper.blocking.providers." + provider
+                                + " refers to unknown profile '" + name + "', known: " + profiles.keySet());
+                    byProvider.put(provider, profile);
+                });
+        if (enabled)
+            log.atInfo().addKeyValue("providers", describeProviders()).addKeyValue("baselineRate", this.baselineRate)
+                    .log("Resource blocking profiles loaded");
+    }
+
+    /**
+     * Switch {@code driver} to the profile for {@code url}'s provider before
+     * it navigates there. Never throws: without DevTools the page simply
+     * loads unblocked.
+     *
+     * @return the load to pass to {@link #finish(Load, long)}, or null when
+     *         blocking is off or unavailable
+     */
+    public Load start(WebDriver driver, String url) {
+        if (!enabled)
+            return null;
+        Session session = sessions.computeIfAbsent(driver, this::open);
+        if (session.devTools == null)
+            return null;
+        String provider = ScrapeMetrics.providerOf(url);
+        BlockingProfile profile = byProvider.getOrDefault(provider, BlockingProfile.NONE);
+        if (!profile.isEmpty() && ThreadLocalRandom.current().nextDouble() < baselineRate)
+            profile = BlockingProfile.NONE;
+        try {
+            session.use(profile);
+        } catch (Exception e) {
+            SAMPLER.at(log, Level.WARN, "blocking.apply").addKeyValue("profile", profile.getName())
+                    .addKeyValue("error", e.getMessage()).log("Could not apply blocking profile");
+            return null;
+        }
+        session.pageBytes.set(0);
+        return new Load(session, provider, profile);
+    }
+
+    /**
+     * Record a finished page load.
+     *
+     * @param loadNanos time {@code driver.get} took
+     */
+    public void finish(Load load, long loadNanos) {
+        if (load == null)
+            return;
+        String blocking = load.profile().isEmpty() ? "unblocked" : "blocked";
+        long bytes = load.session().pageBytes.get();
+        loads.computeIfAbsent(load.provider() + "/" + blocking, k -> new LoadStats()).record(bytes, loadNanos);
+        ScrapeMetrics.pageBytes(load.provider(), blocking, bytes);
+    }
+
+    /** Drop the DevTools state of a session that is being quit. */
+    public void forget(WebDriver driver) {
+        sessions.remove(driver);
+    }
+
+    private Session open(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            unsupported.incrementAndGet();
+            return new Session(null);
+        }
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            Session session = new Session(devTools);
+            devTools.addListener(REQUEST_PAUSED, paused -> session.onPaused(paused, this::countBlocked));
+            devTools.addListener(LOADING_FINISHED, finished -> {
+                if (finished.get("encodedDataLength") instanceof Number length)
+                    session.pageBytes.addAndGet(length.longValue());
+            });
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            return session;
+        } catch (Exception e) {
+            unsupported.incrementAndGet();
+            log.warn("DevTools unavailable, loading pages unblocked: {}", e.getMessage());
+            return new Session(null);
+        }
+    }
+
+    private void countBlocked(BlockingProfile profile, String resourceType) {
+        blocked.computeIfAbsent(profile.getName() + "/" + (resourceType != null ? resourceType : "Other"),
+                k -> new LongAdder()).increment();
+    }
+
+    private String describeProviders() {
+        Map<String, String> out = new LinkedHashMap<>();
+        byProvider.forEach((provider, profile) -> out.put(provider, profile.getName()));
+        return out.toString();
+    }
+
+    private static List<String> orEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+
+    /**
+     * Per provider: page loads with and without blocking, and what blocking
+     * saved per page on average. Savings stay 0 until both kinds of loads
+     * have been seen.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("baselineRate", baselineRate);
+        stats.put("providers", describeProviders());
+        Map<String, Object> profileStats = new LinkedHashMap<>();
+        profiles.forEach((name, profile) -> profileStats.put(name, profile.toMap()));
+        stats.put("profiles", profileStats);
+
+        Map<String, Object> pages = new TreeMap<>();
+        for (String provider : byProvider.keySet()) {
+            LoadStats withBlocking = loads.get(provider + "/blocked");
+            LoadStats without = loads.get(provider + "/unblocked");
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("blocked", withBlocking != null ? withBlocking.toMap() : Map.of());
+            entry.put("unblocked", without != null ? without.toMap() : Map.of());
+            boolean comparable = withBlocking != null && without != null;
+            entry.put("kbSavedPerPage", comparable
+                    ? round((without.avgBytes() - withBlocking.avgBytes()) / 1024.0) : 0.0);
+            entry.put("loadMsSavedPerPage", comparable
+                    ? round(without.load.getAverageMillis() - withBlocking.load.getAverageMillis()) : 0.0);
+            pages.put(provider, entry);
+        }
+        stats.put("pages", pages);
+
+        Map<String, Long> requests = new TreeMap<>();
+        blocked.forEach((key, count) -> requests.put(key, count.sum()));
+        stats.put("blockedRequests", requests);
+        stats.put("sessionsWithoutDevTools", unsupported.get());
+        return stats;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /** DevTools connection of one browser session and the profile it runs. */
+    public static final class Session {
+        private final DevTools devTools;
+        private final AtomicLong pageBytes = new AtomicLong();
+        private volatile BlockingProfile profile = BlockingProfile.NONE;
+
+        Session(DevTools devTools) {
+            this.devTools = devTools;
+        }
+
+        /** Re-enabling {@code Fetch} replaces the previous patterns. */
+        void use(BlockingProfile next) {
+            if (next == profile)
+                return;
+            if (next.isEmpty())
+                devTools.send(new Command<Void>("Fetch.disable", Map.of()));
+            else
+                devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", next.fetchPatterns())));
+            profile = next;
+        }
+
+        /** Runs on the DevTools connection thread; every paused request must be answered. */
+        void onPaused(Map<String, Object> paused, BiConsumer<BlockingProfile, String> onBlocked) {
+            String requestId = (String) paused.get("requestId");
+            String resourceType = (String) paused.get("resourceType");
+            String url = paused.get("request") instanceof Map<?, ?> request ? (String) request.get("url") : null;
+            BlockingProfile current = profile;
+            try {
+                if (current.blocks(url, resourceType)) {
+                    devTools.send(new Command<Void>("Fetch.failRequest",
+                            Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+                    onBlocked.accept(current, resourceType);
+                } else {
+                    devTools.send(new Command<Void>("Fetch.continueRequest", Map.of("requestId", requestId)));
+                }
+            } catch (Exception e) {
+                // the page or session went away while the request was paused
+            }
+        }
+    }
+
+    private static final class LoadStats {
+        final LongAdder pages = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final TimingStats load = new TimingStats();
+
+        void record(long pageBytes, long loadNanos) {
+            pages.increment();
+            bytes.add(pageBytes);
+            load.record(loadNanos);
+        }
+
+        double avgBytes() {
+            long n = pages.sum();
+            return n == 0 ? 0.0 : bytes.sum() / (double) n;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("pages", pages.sum());
+            out.put("avgKb", round(avgBytes() / 1024.0));
+            out.put("load", load.toMap());
+            return out;
+        }
+    }
+}
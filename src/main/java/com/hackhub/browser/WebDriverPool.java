@@ -0,0 +1,318 @@
+package com.hackhub.browser;
+
+import com.hackhub.util.TimingStats;
+import com.khalid.scraper.util.ScrapeMetrics;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of warm headless Chrome sessions shared by all scrape requests.
+ *
+ * Sessions are borrowed with {@link #borrow()} and must be handed back with
+ * {@link #release(WebDriver)}. Between borrowers each session is reset
+ * (cookies, web storage, extra windows, timeouts) and parked on about:blank,
+ * so callers always start from a clean browser without paying Chrome startup.
+ */
+@Slf4j
+@Component
+public class WebDriverPool {
+
+    private static final Duration DEFAULT_IMPLICIT_WAIT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_PAGE_LOAD_TIMEOUT = Duration.ofSeconds(300);
+    private static final long WAIT_SLICE_MS = 250;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMs;
+    private final int maxUses;
+    private final ResourceBlocker blocker;
+
+    private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+    private final Semaphore capacity;
+
+    private final TimingStats waitStats = new TimingStats();
+    private final TimingStats createStats = new TimingStats();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public WebDriverPool(ResourceBlocker blocker, @Value("${scraper.driver-pool.min-size:1}") int minSize,
+            @Value("${scraper.driver-pool.max-size:4}") int maxSize,
+            @Value("${scraper.driver-pool.borrow-timeout-ms:60000}") long borrowTimeoutMs,
+            @Value("${scraper.driver-pool.max-uses:50}") int maxUses) {
+        this.maxSize = Math.max(1, maxSize);
+        this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.maxUses = maxUses;
+        this.blocker = blocker;
+        this.capacity = new Semaphore(this.maxSize, true);
+    }
+
+    /**
+     * Start the minimum number of sessions in the background so the first
+     * request does not pay for Chrome startup. Failures are only logged: the
+     * pool will retry lazily on the first borrow.
+     */
+    @PostConstruct
+    void warmUp() {
+        if (minSize == 0)
+            return;
+        Thread warmer = new Thread(() -> {
+            for (int i = 0; i < minSize && !closed; i++) {
+                if (!capacity.tryAcquire())
+                    break;
+                try {
+                    idle.offerLast(create());
+                } catch (Exception e) {
+                    capacity.release();
+                    log.warn("Driver pool warm-up failed: {}", e.getMessage());
+                    break;
+                }
+            }
+            log.atInfo().addKeyValue("idle", idle.size()).log("Driver pool warm-up finished");
+        }, "driver-pool-warmup");
+        warmer.setDaemon(true);
+        warmer.start();
+    }
+
+    /**
+     * Borrow a session, creating one if the pool is below its maximum size,
+     * otherwise waiting up to the configured borrow timeout.
+     *
+     * @throws IllegalStateException if no session becomes available in time
+     */
+    public WebDriver borrow() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMs);
+        try {
+            while (!closed) {
+                PooledDriver pooled = idle.pollFirst();
+                if (pooled == null && capacity.tryAcquire()) {
+                    pooled = createOrRelease();
+                }
+                if (pooled == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeouts.incrementAndGet();
+                        throw new IllegalStateException(
+                                "Timed out after " + borrowTimeoutMs + "ms waiting for a browser session");
+                    }
+                    pooled = idle.pollFirst(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(WAIT_SLICE_MS)),
+                            TimeUnit.NANOSECONDS);
+                }
+                if (pooled != null) {
+                    leased.put(pooled.driver, pooled);
+                    return pooled.driver;
+                }
+            }
+            throw new IllegalStateException("Driver pool is shut down");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        } finally {
+            waitStats.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Borrow a session only if one is idle or can be created right away.
+     *
+     * @return a session, or {@code null} if the pool is exhausted
+     */
+    public WebDriver tryBorrow() {
+        if (closed)
+            return null;
+        long start = System.nanoTime();
+        PooledDriver pooled = idle.pollFirst();
+        if (pooled == null && capacity.tryAcquire()) {
+            pooled = createOrRelease();
+        }
+        if (pooled == null)
+            return null;
+        waitStats.record(System.nanoTime() - start);
+        leased.put(pooled.driver, pooled);
+        return pooled.driver;
+    }
+
+    /**
+     * Return a session to the pool. The session is reset for the next
+     * borrower, or destroyed if it is worn out or no longer responsive.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null)
+            return;
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            quietQuit(driver);
+            return;
+        }
+        pooled.uses++;
+        if (closed || pooled.uses >= maxUses || !reset(driver)) {
+            destroy(pooled);
+            return;
+        }
+        // LIFO: the most recently used session has the warmest caches
+        idle.offerFirst(pooled);
+    }
+
+    private PooledDriver createOrRelease() {
+        try {
+            return create();
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    private PooledDriver create() {
+        long start = System.nanoTime();
+        WebDriver driver;
+        try {
+            driver = createDriver();
+        } catch (RuntimeException e) {
+            ScrapeMetrics.record("driver.create", "browser", ScrapeMetrics.ERROR, System.nanoTime() - start);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        createStats.record(elapsed);
+        ScrapeMetrics.record("driver.create", "browser", ScrapeMetrics.SUCCESS, elapsed);
+        created.incrementAndGet();
+        return new PooledDriver(driver);
+    }
+
+    private WebDriver createDriver() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-extensions");
+        options.addArguments(
+                "user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120 Safari/537.36");
+
+        // Use system Chrome/Chromium if available (for Docker), otherwise use
+        // WebDriverManager
+        String chromeBin = System.getenv("CHROME_BIN");
+        if (chromeBin != null && !chromeBin.isEmpty()) {
+            log.debug("Using system Chrome/Chromium at {}", chromeBin);
+            options.setBinary(chromeBin);
+            System.setProperty("webdriver.chrome.driver", System.getenv("CHROMEDRIVER_BIN"));
+        } else {
+            log.debug("Using WebDriverManager to set up ChromeDriver");
+            WebDriverManager.chromedriver().setup();
+        }
+
+        WebDriver driver = new ChromeDriver(options);
+        driver.manage().timeouts().implicitlyWait(DEFAULT_IMPLICIT_WAIT);
+        return driver;
+    }
+
+    /**
+     * Wipe per-session state so the next borrower cannot see this one's
+     * cookies, storage, windows or timeout overrides.
+     */
+    private boolean reset(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+            driver.switchTo().window(handles.get(0));
+
+            try {
+                ((JavascriptExecutor) driver)
+                        .executeScript("try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            } catch (Exception ignored) {
+                // about:blank and some error pages have no storage
+            }
+            if (driver instanceof ChromeDriver chrome) {
+                // Clears cookies for every origin, not just the current one
+                chrome.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+
+            driver.manage().timeouts().implicitlyWait(DEFAULT_IMPLICIT_WAIT);
+            driver.manage().timeouts().pageLoadTimeout(DEFAULT_PAGE_LOAD_TIMEOUT);
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            log.warn("Driver session reset failed, discarding it: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledDriver pooled) {
+        quietQuit(pooled.driver);
+        destroyed.incrementAndGet();
+        capacity.release();
+    }
+
+    private void quietQuit(WebDriver driver) {
+        blocker.forget(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.warn("Driver quit() failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            destroy(pooled);
+        }
+        for (PooledDriver leasedDriver : leased.values()) {
+            quietQuit(leasedDriver.driver);
+        }
+        leased.clear();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("minSize", minSize);
+        stats.put("maxSize", maxSize);
+        stats.put("idle", idle.size());
+        stats.put("leased", leased.size());
+        stats.put("created", created.get());
+        stats.put("destroyed", destroyed.get());
+        stats.put("borrowTimeouts", timeouts.get());
+        stats.put("borrowWait", waitStats.toMap());
+        stats.put("sessionStartup", createStats.toMap());
+        return stats;
+    }
+
+    private static final class PooledDriver {
+        final WebDriver driver;
+        int uses;
+
+        PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
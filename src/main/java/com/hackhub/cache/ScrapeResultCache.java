@@ -0,0 +1,150 @@
+package com.hackhub.cache;
+
+import com.hackhub.model.Event;
+import com.hackhub.model.dto.ScrapeResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-memory TTL cache of scrape results, keyed on provider,
+ * normalized domain and location.
+ *
+ * The requested count is not part of the key: an entry scraped for a larger
+ * count also answers smaller requests, and an entry that came back short
+ * (the source ran out of events) answers any count. Only complete results are
+ * stored, so a short entry always means an exhausted source, never a scrape
+ * that failed halfway.
+ */
+@Component
+public class ScrapeResultCache {
+
+    private final long ttlMs;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    @Autowired
+    public ScrapeResultCache(@Value("${scraper.cache.ttl-ms:600000}") long ttlMs,
+            @Value("${scraper.cache.max-entries:256}") int maxEntries) {
+        this(ttlMs, maxEntries, System::currentTimeMillis);
+    }
+
+    ScrapeResultCache(long ttlMs, int maxEntries, LongSupplier clock) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        // access order, so the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > ScrapeResultCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return a copy of the first {@code count} cached events, or {@code null}
+     *         on a miss
+     */
+    public synchronized List<Event> get(String provider, String domain, String location, int count) {
+        String key = key(provider, domain, location);
+        Entry entry = entries.get(key);
+        if (entry != null && isExpired(entry)) {
+            entries.remove(key);
+            expirations++;
+            entry = null;
+        }
+        if (entry == null || !entry.covers(count)) {
+            misses++;
+            return null;
+        }
+        hits++;
+        // Copies, so a caller changing its events cannot change the entry
+        List<Event> out = new ArrayList<>(Math.min(count, entry.events.size()));
+        for (Event event : entry.events.subList(0, Math.min(count, entry.events.size())))
+            out.add(event.copy());
+        return out;
+    }
+
+    /**
+     * Store a result. Partial and empty results are not cached, and a live
+     * entry for a larger count is never replaced by a smaller one.
+     */
+    public synchronized void put(String provider, String domain, String location, int count, ScrapeResult result) {
+        if (result == null || !result.complete() || result.events().isEmpty())
+            return;
+        List<Event> events = result.events();
+        String key = key(provider, domain, location);
+        Entry existing = entries.get(key);
+        if (existing != null && !isExpired(existing) && existing.covers(count) && existing.requestedCount > count)
+            return;
+        // The scraped events also go to the response and the store, so keep copies
+        entries.put(key, new Entry(events.stream().map(Event::copy).toList(), count, clock.getAsLong()));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long lookups = hits + misses;
+        stats.put("size", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlMs", ttlMs);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", lookups == 0 ? 0.0 : Math.round(hits * 1000.0 / lookups) / 1000.0);
+        stats.put("evictions", evictions);
+        stats.put("expirations", expirations);
+        return stats;
+    }
+
+    private boolean isExpired(Entry entry) {
+        return clock.getAsLong() - entry.createdAt >= ttlMs;
+    }
+
+    static String key(String provider, String domain, String location) {
+        return provider + "|" + normalize(domain) + "|" + normalize(location);
+    }
+
+    private static String normalize(String value) {
+        if (value == null)
+            return "";
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        final List<Event> events;
+        final int requestedCount;
+        final long createdAt;
+
+        Entry(List<Event> events, int requestedCount, long createdAt) {
+            this.events = events;
+            this.requestedCount = requestedCount;
+            this.createdAt = createdAt;
+        }
+
+        boolean covers(int count) {
+            return requestedCount >= count || events.size() < requestedCount;
+        }
+    }
+}
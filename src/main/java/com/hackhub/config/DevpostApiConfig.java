@@ -0,0 +1,45 @@
+package com.hackhub.config;
+
+import com.khalid.scraper.http.HttpDiskCache;
+import com.khalid.scraper.http.PageFetcher;
+import com.khalid.scraper.service.DevpostService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Exposes the CLI's {@link DevpostService} (JSON API client) to the Spring API,
+ * along with its page fetcher and the on-disk HTTP cache behind it.
+ */
+@Slf4j
+@Configuration
+public class DevpostApiConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "scraper.http-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public HttpDiskCache httpDiskCache(@Value("${scraper.http-cache.dir:.http-cache}") String dir,
+            @Value("${scraper.http-cache.max-mb:256}") long maxMb) throws IOException {
+        HttpDiskCache cache = new HttpDiskCache(Path.of(dir), maxMb * 1024 * 1024);
+        log.atInfo().addKeyValue("dir", Path.of(dir).toAbsolutePath()).addKeyValue("maxMb", maxMb)
+                .log("HTTP page cache enabled");
+        return cache;
+    }
+
+    @Bean
+    public DevpostService devpostService(@Value("${scraper.devpost.api.debug:false}") boolean debug,
+            @Value("${scraper.devpost.api.base-url:" + DevpostService.DEFAULT_API_BASE_URL + "}") String apiBaseUrl,
+            ObjectProvider<HttpDiskCache> httpDiskCache) {
+        return new DevpostService(debug, httpDiskCache.getIfAvailable(), apiBaseUrl);
+    }
+
+    @Bean
+    public PageFetcher pageFetcher(DevpostService devpostService) {
+        return devpostService.getPageFetcher();
+    }
+}
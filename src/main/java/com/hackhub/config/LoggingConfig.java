@@ -0,0 +1,22 @@
+package com.hackhub.config;
+
+import com.khalid.scraper.util.LogSampler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies {@code scraper.logging.sample-per-second} to the process-wide
+ * {@link LogSampler} that rate limits per-event log lines in the scrapers,
+ * the SSE streams and {@code DevpostService}.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public LogSampler logSampler(@Value("${scraper.logging.sample-per-second:5}") int perSecond) {
+        LogSampler sampler = LogSampler.shared();
+        sampler.setPerSecond(perSecond);
+        return sampler;
+    }
+}
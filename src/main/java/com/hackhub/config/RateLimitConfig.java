@@ -0,0 +1,36 @@
+package com.hackhub.config;
+
+import com.khalid.scraper.util.HostRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+/**
+ * Applies the {@code scraper.rate-limit.*} properties to the process-wide
+ * {@link HostRateLimiter}, which the browser scrapers and the
+ * {@code DevpostService} HTTP client both draw from.
+ */
+@Slf4j
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public HostRateLimiter hostRateLimiter(Environment environment,
+            @Value("${scraper.rate-limit.default-rate:2.0}") double defaultRate,
+            @Value("${scraper.rate-limit.burst:2}") int burst) {
+        Map<String, Double> hostRates = Binder.get(environment)
+                .bind("scraper.rate-limit.hosts", Bindable.mapOf(String.class, Double.class))
+                .orElse(Map.of());
+        HostRateLimiter limiter = HostRateLimiter.shared();
+        limiter.configure(defaultRate, burst, hostRates);
+        log.atInfo().addKeyValue("defaultRate", defaultRate).addKeyValue("burst", burst)
+                .addKeyValue("hostRates", hostRates).log("Per-host rate limits configured");
+        return limiter;
+    }
+}
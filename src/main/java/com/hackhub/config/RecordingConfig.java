@@ -0,0 +1,26 @@
+package com.hackhub.config;
+
+import com.khalid.scraper.replay.FixtureRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Turns on the process-wide {@link FixtureRecorder} when
+ * {@code scraper.record.dir} is set, so that API pages, detail pages and
+ * browser-rendered listings are saved for replay by the stub server.
+ */
+@Configuration
+public class RecordingConfig {
+
+    @Bean
+    public FixtureRecorder fixtureRecorder(@Value("${scraper.record.dir:}") String dir) throws IOException {
+        FixtureRecorder recorder = FixtureRecorder.shared();
+        if (!dir.isBlank())
+            recorder.start(Path.of(dir));
+        return recorder;
+    }
+}
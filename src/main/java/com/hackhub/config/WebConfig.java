@@ -5,6 +5,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 
+// Access log under its own logger, so it can be turned down separately
+@Slf4j(topic = "com.hackhub.access")
 @Configuration
 public class WebConfig {
 
@@ -42,10 +45,21 @@ public class WebConfig {
             @Override
             protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                     FilterChain filterChain) throws ServletException, IOException {
-                System.out.println("👉 [REQ] " + request.getMethod() + " " + request.getRequestURI() + " (Origin: "
-                        + request.getHeader("Origin") + ")");
-                filterChain.doFilter(request, response);
-                System.out.println("👈 [RES] " + response.getStatus());
+                long start = System.nanoTime();
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    // One line per request, once the status and latency are known. For
+                    // SSE streams this is when the handler returns, not when the stream ends.
+                    if (log.isInfoEnabled()) {
+                        log.atInfo().addKeyValue("method", request.getMethod())
+                                .addKeyValue("uri", request.getRequestURI())
+                                .addKeyValue("status", response.getStatus())
+                                .addKeyValue("latencyMs", (System.nanoTime() - start) / 1_000_000)
+                                .addKeyValue("origin", request.getHeader("Origin"))
+                                .log("request");
+                    }
+                }
             }
         });
         registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
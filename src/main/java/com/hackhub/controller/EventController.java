@@ -0,0 +1,126 @@
+package com.hackhub.controller;
+
+import com.hackhub.geo.Gazetteer;
+import com.hackhub.geo.GeoPoint;
+import com.hackhub.model.Event;
+import com.hackhub.model.dto.ScrapeResult;
+import com.hackhub.service.ScraperService;
+import com.hackhub.store.EventStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read API served from the crawled {@link EventStore}. Only falls back to a
+ * live scrape when a requested provider has not been crawled recently; that
+ * scrape is shared by every request arriving while it runs, and once it
+ * completes the provider counts as fresh again.
+ *
+ * With {@code near} (a place name) or {@code lat}/{@code lon}, returns the
+ * events within {@code radiusKm} of that point, nearest first.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+
+    private static final List<String> PROVIDERS = List.of("DEVPOST", "MLH");
+
+    private final EventStore eventStore;
+    private final ScraperService scraperService;
+    private final Gazetteer gazetteer;
+    private final int liveCount;
+
+    // provider -> the live refresh in flight; true if it completed
+    private final Map<String, CompletableFuture<Boolean>> refreshes = new ConcurrentHashMap<>();
+
+    public EventController(EventStore eventStore, ScraperService scraperService, Gazetteer gazetteer,
+            @Value("${scraper.events.live-count:50}") int liveCount) {
+        this.eventStore = eventStore;
+        this.scraperService = scraperService;
+        this.gazetteer = gazetteer;
+        this.liveCount = liveCount;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<Event>> search(
+            @RequestParam(required = false) String provider,
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String near,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(defaultValue = "100") double radiusKm,
+            @RequestParam(defaultValue = "10") int count) {
+        int effectiveCount = Math.max(1, Math.min(count, 200));
+        String effectiveProvider = provider == null || provider.isBlank() ? null : provider.toUpperCase(Locale.ROOT);
+        if (effectiveProvider != null && !PROVIDERS.contains(effectiveProvider)) {
+            return ResponseEntity.badRequest().build();
+        }
+        GeoPoint center = null;
+        if (lat != null && lon != null) {
+            center = new GeoPoint(lat, lon);
+        } else if (near != null && !near.isBlank()) {
+            center = gazetteer.resolve(near);
+            if (center == null)
+                return ResponseEntity.badRequest().build();
+        }
+
+        // Live scrape only for stale providers, so one slow source doesn't hold up the other
+        boolean live = false;
+        for (String p : effectiveProvider == null ? PROVIDERS : List.of(effectiveProvider)) {
+            if (eventStore.isStale(p)) {
+                refresh(p).join();
+                live = true;
+            }
+        }
+
+        List<Event> events = center != null
+                ? eventStore.nearest(effectiveProvider, domain, center, radiusKm, effectiveCount)
+                : new ArrayList<>(eventStore.query(effectiveProvider, domain, location, effectiveCount));
+        return ResponseEntity.ok()
+                .header("X-Served-From", live ? "live" : "index")
+                .body(events);
+    }
+
+    /**
+     * Scrape a stale provider into the store, or wait for the scrape another
+     * request already started. The scrape is unfiltered, so it serves every
+     * query that waits on it.
+     */
+    private CompletableFuture<Boolean> refresh(String provider) {
+        CompletableFuture<Boolean> mine = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = refreshes.putIfAbsent(provider, mine);
+        if (running != null)
+            return running;
+        try {
+            log.atInfo().addKeyValue("provider", provider).addKeyValue("count", liveCount)
+                    .log("Index is stale, scraping live");
+            ScrapeResult result = "DEVPOST".equals(provider)
+                    ? scraperService.scrapeDevpost("", "", liveCount)
+                    : scraperService.scrapeMlh("", "", liveCount);
+            eventStore.merge(result.events());
+            // A partial scrape leaves the provider stale, so the next request retries
+            if (result.complete())
+                eventStore.markRefreshed(provider);
+            mine.complete(result.complete());
+        } catch (RuntimeException e) {
+            log.warn("Live scrape of {} failed", provider, e);
+            mine.complete(false);
+        } finally {
+            refreshes.remove(provider, mine);
+        }
+        return mine;
+    }
+}
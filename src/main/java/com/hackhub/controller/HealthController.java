@@ -1,5 +1,14 @@
 package com.hackhub.controller;
 
+import com.hackhub.browser.PageReadiness;
+import com.hackhub.browser.ResourceBlocker;
+import com.hackhub.browser.WebDriverPool;
+import com.hackhub.cache.ScrapeResultCache;
+import com.hackhub.crawler.EventCrawler;
+import com.hackhub.store.EventStore;
+import com.khalid.scraper.http.PageFetcher;
+import com.khalid.scraper.util.LogSampler;
+import com.khalid.scraper.util.HostRateLimiter;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -11,6 +20,30 @@ import java.util.Map;
 @RequestMapping("/api")
 public class HealthController {
 
+    private final WebDriverPool driverPool;
+    private final PageReadiness readiness;
+    private final ResourceBlocker blocker;
+    private final ScrapeResultCache resultCache;
+    private final EventStore eventStore;
+    private final HostRateLimiter rateLimiter;
+    private final PageFetcher pageFetcher;
+    private final EventCrawler crawler;
+    private final LogSampler logSampler;
+
+    public HealthController(WebDriverPool driverPool, PageReadiness readiness, ResourceBlocker blocker,
+            ScrapeResultCache resultCache, EventStore eventStore, HostRateLimiter rateLimiter, PageFetcher pageFetcher,
+            EventCrawler crawler, LogSampler logSampler) {
+        this.driverPool = driverPool;
+        this.readiness = readiness;
+        this.blocker = blocker;
+        this.resultCache = resultCache;
+        this.eventStore = eventStore;
+        this.rateLimiter = rateLimiter;
+        this.pageFetcher = pageFetcher;
+        this.crawler = crawler;
+        this.logSampler = logSampler;
+    }
+
     @GetMapping("/health")
     public Map<String, Object> health() {
         Map<String, Object> response = new HashMap<>();
@@ -20,11 +53,27 @@ public class HealthController {
         return response;
     }
 
+    @GetMapping("/health/scraper")
+    public Map<String, Object> scraperStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("driverPool", driverPool.getStats());
+        response.put("pageReadiness", readiness.getStats());
+        response.put("resourceBlocking", blocker.getStats());
+        response.put("resultCache", resultCache.getStats());
+        response.put("eventStore", eventStore.getStats());
+        response.put("rateLimit", rateLimiter.getStats());
+        response.put("pageFetcher", pageFetcher.getStats());
+        response.put("crawler", crawler.getLastReports());
+        response.put("logLinesDropped", logSampler.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return response;
+    }
+
     @GetMapping("/")
     public Map<String, String> root() {
         Map<String, String> response = new HashMap<>();
         response.put("message", "HackerHub API is running!");
-        response.put("endpoints", "/api/scraper/devpost, /api/scraper/mlh, /api/health");
+        response.put("endpoints", "/api/events, /api/scraper/devpost, /api/scraper/mlh, /api/health, /api/health/scraper");
         return response;
     }
 }
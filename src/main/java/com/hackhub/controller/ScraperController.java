@@ -1,23 +1,35 @@
 package com.hackhub.controller;
 
+import com.hackhub.cache.ScrapeResultCache;
 import com.hackhub.model.Event;
 import com.hackhub.model.dto.ScrapeRequest;
+import com.hackhub.model.dto.ScrapeResult;
 import com.hackhub.service.ScraperService;
+import com.khalid.scraper.util.LogSampler;
+import com.khalid.scraper.util.ScrapeMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/scraper")
 public class ScraperController {
 
+    // One line per event sent is rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
     private final ScraperService scraperService;
+    private final ScrapeResultCache resultCache;
 
     @Autowired
-    public ScraperController(ScraperService scraperService) {
+    public ScraperController(ScraperService scraperService, ScrapeResultCache resultCache) {
         this.scraperService = scraperService;
+        this.resultCache = resultCache;
     }
 
     @PostMapping("/devpost")
@@ -34,15 +46,24 @@ public class ScraperController {
         request.setLocation(effectiveLocation);
         request.setCount(effectiveCount);
 
-        System.out.println("📥 [DEVPOST] Received scrape request: Domain='" + effectiveDomain
-                + "', Location='" + effectiveLocation + "', Count=" + effectiveCount);
+        log.atInfo().addKeyValue("provider", "devpost").addKeyValue("domain", effectiveDomain)
+                .addKeyValue("location", effectiveLocation).addKeyValue("count", effectiveCount)
+                .log("Scrape request received");
+
+        List<Event> events = resultCache.get("DEVPOST", effectiveDomain, effectiveLocation, effectiveCount);
+        if (events != null) {
+            log.atInfo().addKeyValue("provider", "devpost").addKeyValue("events", events.size())
+                    .log("Scrape served from cache");
+            return ResponseEntity.ok(events);
+        }
 
-        List<Event> events = scraperService.scrapeDevpost(
+        ScrapeResult result = scraperService.scrapeDevpost(
                 effectiveDomain,
                 effectiveLocation,
                 effectiveCount);
+        resultCache.put("DEVPOST", effectiveDomain, effectiveLocation, effectiveCount, result);
 
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok(result.events());
     }
 
     @PostMapping("/mlh")
@@ -59,15 +80,26 @@ public class ScraperController {
         request.setLocation(effectiveLocation);
         request.setCount(effectiveCount);
 
-        System.out.println("📥 [MLH] Received scrape request: Domain='" + effectiveDomain
-                + "', Location='" + effectiveLocation + "', Count=" + effectiveCount);
+        log.atInfo().addKeyValue("provider", "mlh").addKeyValue("domain", effectiveDomain)
+                .addKeyValue("location", effectiveLocation).addKeyValue("count", effectiveCount)
+                .log("Scrape request received");
+
+        List<Event> events = resultCache.get("MLH", effectiveDomain, effectiveLocation, effectiveCount);
+        if (events != null) {
+            log.atInfo().addKeyValue("provider", "mlh").addKeyValue("events", events.size())
+                    .log("Scrape served from cache");
+            return ResponseEntity.ok(events);
+        }
 
-        List<Event> events = scraperService.scrapeMlh(effectiveDomain, effectiveLocation, effectiveCount);
+        ScrapeResult result = scraperService.scrapeMlh(effectiveDomain, effectiveLocation, effectiveCount);
+        resultCache.put("MLH", effectiveDomain, effectiveLocation, effectiveCount, result);
 
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok(result.events());
     }
 
-    private final java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newCachedThreadPool();
+    // One virtual thread per stream: a stream mostly waits on the browser or the network
+    private final java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors
+            .newVirtualThreadPerTaskExecutor();
 
     @GetMapping("/stream/devpost")
     public org.springframework.web.servlet.mvc.method.annotation.SseEmitter streamDevpost(
@@ -75,42 +107,66 @@ public class ScraperController {
             @RequestParam(required = false) String location,
             @RequestParam(defaultValue = "10") int count) {
 
-        System.out.println("\n🔍 [DEVPOST STREAM] Client connected - domain: " + domain + ", location: " + location + ", count: " + count);
+        log.atInfo().addKeyValue("provider", "devpost").addKeyValue("domain", domain)
+                .addKeyValue("location", location).addKeyValue("count", count).log("Stream client connected");
         
         org.springframework.web.servlet.mvc.method.annotation.SseEmitter emitter = new org.springframework.web.servlet.mvc.method.annotation.SseEmitter(
                 300_000L); // 5 min timeout
         final java.util.concurrent.atomic.AtomicBoolean streamEnded = new java.util.concurrent.atomic.AtomicBoolean(false);
         final java.util.concurrent.atomic.AtomicInteger eventCount = new java.util.concurrent.atomic.AtomicInteger(0);
-
-        executor.execute(() -> {
+        final java.util.concurrent.atomic.AtomicReference<java.util.concurrent.Future<?>> task = new java.util.concurrent.atomic.AtomicReference<>();
+        // Interrupt the scrape, which also cancels its deep-scrape workers
+        final Runnable cancelScrape = () -> {
+            java.util.concurrent.Future<?> running = task.get();
+            if (running != null)
+                running.cancel(true);
+        };
+
+        task.set(executor.submit(() -> {
             try {
                 scraperService.streamDevpost(domain, location, count, event -> {
                     if (!streamEnded.get()) {
+                        long sendStart = System.nanoTime();
                         try {
                             emitter.send(event);
+                            ScrapeMetrics.record("sse.send", "devpost", ScrapeMetrics.SUCCESS, System.nanoTime() - sendStart);
                             int sent = eventCount.incrementAndGet();
-                            System.out.println("✅ [DEVPOST STREAM] Event #" + sent + " sent: " + event.getTitle());
+                            SAMPLER.at(log, Level.INFO, "devpost.stream.sent").addKeyValue("sent", sent)
+                                    .addKeyValue("title", event.getTitle()).log("Stream event sent");
                         } catch (Exception e) {
-                            System.err.println("❌ [DEVPOST STREAM] Send failed: " + e.getMessage());
+                            ScrapeMetrics.record("sse.send", "devpost", ScrapeMetrics.ERROR, System.nanoTime() - sendStart);
+                            log.warn("Devpost stream send failed: {}", e.getMessage());
                             streamEnded.set(true);
                             try { emitter.completeWithError(e); } catch (Exception ignored) {}
+                            cancelScrape.run();
                         }
                     }
                 }, () -> {
                     if (!streamEnded.get()) {
                         streamEnded.set(true);
-                        System.out.println("✅ [DEVPOST STREAM] Completed - Total events sent: " + eventCount.get());
+                        log.atInfo().addKeyValue("provider", "devpost").addKeyValue("sent", eventCount.get())
+                                .log("Stream completed");
                         emitter.complete();
                     }
                 });
             } catch (Exception e) {
-                System.err.println("❌ [DEVPOST STREAM] Error: " + e.getMessage());
+                log.error("Devpost stream failed", e);
                 if (!streamEnded.get()) {
                     streamEnded.set(true);
                     try { emitter.completeWithError(e); } catch (Exception ignored) {}
                 }
             }
-        });
+        }));
+
+        // Client gone or timed out: stop scraping for nobody
+        Runnable onAbandoned = () -> {
+            if (streamEnded.compareAndSet(false, true)) {
+                log.info("Devpost stream client disconnected, cancelling scrape");
+                cancelScrape.run();
+            }
+        };
+        emitter.onTimeout(onAbandoned);
+        emitter.onError(e -> onAbandoned.run());
 
         return emitter;
     }
@@ -121,42 +177,66 @@ public class ScraperController {
             @RequestParam(required = false) String location,
             @RequestParam(defaultValue = "10") int count) {
 
-        System.out.println("\n🔍 [MLH STREAM] Client connected - domain: " + domain + ", location: " + location + ", count: " + count);
+        log.atInfo().addKeyValue("provider", "mlh").addKeyValue("domain", domain)
+                .addKeyValue("location", location).addKeyValue("count", count).log("Stream client connected");
         
         org.springframework.web.servlet.mvc.method.annotation.SseEmitter emitter = new org.springframework.web.servlet.mvc.method.annotation.SseEmitter(
                 300_000L); // 5 min timeout
         final java.util.concurrent.atomic.AtomicBoolean streamEnded = new java.util.concurrent.atomic.AtomicBoolean(false);
         final java.util.concurrent.atomic.AtomicInteger eventCount = new java.util.concurrent.atomic.AtomicInteger(0);
-
-        executor.execute(() -> {
+        final java.util.concurrent.atomic.AtomicReference<java.util.concurrent.Future<?>> task = new java.util.concurrent.atomic.AtomicReference<>();
+        // Interrupt the scrape, which also cancels its deep-scrape workers
+        final Runnable cancelScrape = () -> {
+            java.util.concurrent.Future<?> running = task.get();
+            if (running != null)
+                running.cancel(true);
+        };
+
+        task.set(executor.submit(() -> {
             try {
                 scraperService.streamMlh(domain, location, count, event -> {
                     if (!streamEnded.get()) {
+                        long sendStart = System.nanoTime();
                         try {
                             emitter.send(event);
+                            ScrapeMetrics.record("sse.send", "mlh", ScrapeMetrics.SUCCESS, System.nanoTime() - sendStart);
                             int sent = eventCount.incrementAndGet();
-                            System.out.println("✅ [MLH STREAM] Event #" + sent + " sent: " + event.getTitle());
+                            SAMPLER.at(log, Level.INFO, "mlh.stream.sent").addKeyValue("sent", sent)
+                                    .addKeyValue("title", event.getTitle()).log("Stream event sent");
                         } catch (Exception e) {
-                            System.err.println("❌ [MLH STREAM] Send failed: " + e.getMessage());
+                            ScrapeMetrics.record("sse.send", "mlh", ScrapeMetrics.ERROR, System.nanoTime() - sendStart);
+                            log.warn("MLH stream send failed: {}", e.getMessage());
                             streamEnded.set(true);
                             try { emitter.completeWithError(e); } catch (Exception ignored) {}
+                            cancelScrape.run();
                         }
                     }
                 }, () -> {
                     if (!streamEnded.get()) {
                         streamEnded.set(true);
-                        System.out.println("✅ [MLH STREAM] Completed - Total events sent: " + eventCount.get());
+                        log.atInfo().addKeyValue("provider", "mlh").addKeyValue("sent", eventCount.get())
+                                .log("Stream completed");
                         emitter.complete();
                     }
                 });
             } catch (Exception e) {
-                System.err.println("❌ [MLH STREAM] Error: " + e.getMessage());
+                log.error("MLH stream failed", e);
                 if (!streamEnded.get()) {
                     streamEnded.set(true);
                     try { emitter.completeWithError(e); } catch (Exception ignored) {}
                 }
             }
-        });
+        }));
+
+        // Client gone or timed out: stop scraping for nobody
+        Runnable onAbandoned = () -> {
+            if (streamEnded.compareAndSet(false, true)) {
+                log.info("MLH stream client disconnected, cancelling scrape");
+                cancelScrape.run();
+            }
+        };
+        emitter.onTimeout(onAbandoned);
+        emitter.onError(e -> onAbandoned.run());
 
         return emitter;
     }
@@ -0,0 +1,93 @@
+package com.hackhub.crawler;
+
+import com.hackhub.model.Event;
+import com.hackhub.model.dto.ScrapeResult;
+import com.hackhub.service.ScraperService;
+import com.hackhub.store.CrawlReport;
+import com.hackhub.store.EventStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the {@link EventStore} fresh by re-crawling every provider on a fixed
+ * delay through the regular {@link ScraperService} methods (which also
+ * persist the results).
+ */
+@Slf4j
+@Component
+public class EventCrawler {
+
+    private final ScraperService scraperService;
+    private final EventStore eventStore;
+    private final boolean enabled;
+    private final int devpostCount;
+    private final int mlhCount;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<String, CrawlReport> lastReports = new ConcurrentHashMap<>();
+
+    public EventCrawler(ScraperService scraperService, EventStore eventStore,
+            @Value("${scraper.crawler.enabled:true}") boolean enabled,
+            @Value("${scraper.crawler.devpost-count:100}") int devpostCount,
+            @Value("${scraper.crawler.mlh-count:200}") int mlhCount) {
+        this.scraperService = scraperService;
+        this.eventStore = eventStore;
+        this.enabled = enabled;
+        this.devpostCount = devpostCount;
+        this.mlhCount = mlhCount;
+    }
+
+    @Scheduled(initialDelayString = "${scraper.crawler.initial-delay-ms:10000}",
+            fixedDelayString = "${scraper.crawler.interval-ms:1800000}")
+    public void crawl() {
+        if (!enabled || !running.compareAndSet(false, true))
+            return;
+        try {
+            crawlProvider("DEVPOST", () -> scraperService.scrapeDevpost("", "", devpostCount));
+            crawlProvider("MLH", () -> scraperService.scrapeMlh("", "", mlhCount));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** The outcome of the last complete crawl, per provider. */
+    public Map<String, CrawlReport> getLastReports() {
+        return Map.copyOf(lastReports);
+    }
+
+    private void crawlProvider(String provider, Supplier<ScrapeResult> scrape) {
+        long start = System.currentTimeMillis();
+        try {
+            ScrapeResult result = scrape.get();
+            List<Event> events = result.events();
+            if (events.isEmpty()) {
+                // Keep serving the previous crawl rather than wiping the store
+                log.warn("{} crawl returned no events, keeping previous data", provider);
+                return;
+            }
+            if (!result.complete()) {
+                // A cut-short listing says nothing about what was delisted: keep the
+                // rest and leave the provider stale so the next crawl replaces it
+                eventStore.merge(events);
+                log.warn("{} crawl was cut short after {} events, merged without evicting", provider,
+                        events.size());
+                return;
+            }
+            CrawlReport report = eventStore.replaceProvider(provider, events);
+            lastReports.put(provider, report);
+            log.atInfo().addKeyValue("provider", provider).addKeyValue("events", events.size())
+                    .addKeyValue("elapsedMs", System.currentTimeMillis() - start)
+                    .addKeyValue("changes", report.summary()).log("Crawl finished");
+        } catch (Exception e) {
+            log.error("{} crawl failed", provider, e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.hackhub.geo;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves free-text event locations ("Cambridge, MA", "Toronto, ON,
+ * Canada", "Berlin") to coordinates from a bundled list of cities, regions
+ * and countries ({@code geo/places.tsv}), without any network call.
+ *
+ * The first segment naming a known city wins, disambiguated by the other
+ * segments (region or country); otherwise the location resolves to the
+ * centroid of the region or country it names, with that precision on the
+ * {@link GeoPoint}. Results, misses included, are cached per location
+ * string.
+ */
+@Component
+public class Gazetteer {
+
+    private static final String RESOURCE = "/geo/places.tsv";
+
+    private static final Pattern SEGMENTS = Pattern.compile("[,;/|()]+|\\s+-\\s+");
+    private static final Pattern DOTS = Pattern.compile("\\.(?!\\s)");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+
+    private final Map<String, List<Place>> cities = new HashMap<>();
+    private final Map<String, List<Place>> regions = new HashMap<>();
+    private final Map<String, Place> countries = new HashMap<>();
+    private final Map<String, Optional<GeoPoint>> resolved = new ConcurrentHashMap<>();
+
+    public Gazetteer() {
+        try (InputStream in = Gazetteer.class.getResourceAsStream(RESOURCE)) {
+            if (in == null)
+                throw new IllegalStateException("Missing gazetteer resource " + RESOURCE);
+            load(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read gazetteer " + RESOURCE, e);
+        }
+    }
+
+    private record Place(String region, String country, GeoPoint point) {
+    }
+
+    /**
+     * @return the coordinates of {@code location}, or null if it names no
+     *         known place (including "Online" and friends)
+     */
+    public GeoPoint resolve(String location) {
+        if (location == null || location.isBlank())
+            return null;
+        return resolved.computeIfAbsent(location.trim(), key -> Optional.ofNullable(lookup(key))).orElse(null);
+    }
+
+    public int cachedCount() {
+        return resolved.size();
+    }
+
+    private GeoPoint lookup(String location) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : SEGMENTS.split(location)) {
+            String s = normalize(NUMBER.matcher(segment).replaceAll(" "));
+            if (!s.isEmpty())
+                segments.add(s);
+        }
+
+        GeoPoint unconfirmed = null;
+        for (int i = 0; i < segments.size(); i++) {
+            List<Place> candidates = cities.get(segments.get(i));
+            if (candidates == null)
+                continue;
+            List<String> context = new ArrayList<>(segments);
+            context.remove(i);
+            if (context.isEmpty())
+                return candidates.get(0).point();
+            for (Place city : candidates) {
+                if (context.stream().anyMatch(s -> locatedIn(city, s)))
+                    return city.point();
+            }
+            // "Paris, Texas" is not Paris, France; but "Cambridge, Kendall
+            // Square" probably is the first Cambridge, if nothing else matches
+            if (unconfirmed == null)
+                unconfirmed = candidates.get(0).point();
+        }
+
+        // No city: the most specific region or country named
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            List<Place> region = regions.get(segments.get(i));
+            if (region != null)
+                return region.get(0).point();
+        }
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Place country = countries.get(segments.get(i));
+            if (country != null)
+                return country.point();
+        }
+        return unconfirmed;
+    }
+
+    /** Does the segment name the city's region or country? */
+    private boolean locatedIn(Place city, String segment) {
+        if (segment.equals(city.region().toLowerCase(Locale.ROOT))
+                || segment.equals(city.country().toLowerCase(Locale.ROOT)))
+            return true;
+        List<Place> region = regions.get(segment);
+        if (region != null && region.stream()
+                .anyMatch(r -> r.region().equals(city.region()) && r.country().equals(city.country())))
+            return true;
+        Place country = countries.get(segment);
+        return country != null && country.country().equals(city.country());
+    }
+
+    private void load(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#"))
+                continue;
+            String[] cols = line.split("\t");
+            if (cols.length < 6)
+                throw new IllegalStateException("Bad gazetteer line: " + line);
+            String region = cols[2].equals("-") ? "" : cols[2];
+            GeoPoint.Precision precision = switch (cols[0]) {
+                case "city" -> GeoPoint.Precision.CITY;
+                case "region" -> GeoPoint.Precision.REGION;
+                case "country" -> GeoPoint.Precision.COUNTRY;
+                default -> throw new IllegalStateException("Bad gazetteer kind: " + line);
+            };
+            Place place = new Place(region, cols[3],
+                    new GeoPoint(Double.parseDouble(cols[4]), Double.parseDouble(cols[5]), precision));
+            for (String name : cols[1].split("\\|")) {
+                String key = normalize(name);
+                switch (cols[0]) {
+                    case "city" -> cities.computeIfAbsent(key, k -> new ArrayList<>()).add(place);
+                    case "region" -> regions.computeIfAbsent(key, k -> new ArrayList<>()).add(place);
+                    case "country" -> countries.putIfAbsent(key, place);
+                }
+            }
+            // Regions are also known by their code: "CA", "ON", ...
+            if (cols[0].equals("region"))
+                regions.computeIfAbsent(normalize(region), k -> new ArrayList<>()).add(place);
+        }
+    }
+
+    /**
+     * Lowercase words without accents or punctuation: "Montréal " ->
+     * "montreal", "St. Louis" -> "st louis", "D.C." -> "dc".
+     */
+    static String normalize(String text) {
+        String plain = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        plain = DOTS.matcher(plain).replaceAll("");
+        return NON_WORD.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
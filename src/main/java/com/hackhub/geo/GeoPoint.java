@@ -0,0 +1,40 @@
+package com.hackhub.geo;
+
+/**
+ * A point on the globe, in degrees, and how precisely it places what it
+ * stands for: a region or country resolves to its centroid, which can be
+ * hundreds of kilometres from the actual venue.
+ */
+public record GeoPoint(double lat, double lon, Precision precision) {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    public enum Precision {
+        /** Given coordinates. */
+        EXACT,
+        CITY,
+        /** Centroid of a state, province, ... */
+        REGION,
+        /** Centroid of a country. */
+        COUNTRY
+    }
+
+    public GeoPoint(double lat, double lon) {
+        this(lat, lon, Precision.EXACT);
+    }
+
+    /** Close enough to the venue for a distance to mean something. */
+    public boolean isPrecise() {
+        return precision == Precision.EXACT || precision == Precision.CITY;
+    }
+
+    /** Great-circle (haversine) distance. */
+    public double distanceKm(GeoPoint other) {
+        double dLat = Math.toRadians(other.lat - lat);
+        double dLon = Math.toRadians(other.lon - lon);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat)) * Math.cos(Math.toRadians(other.lat))
+                        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
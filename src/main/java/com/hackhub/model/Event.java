@@ -1,29 +1,48 @@
 package com.hackhub.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Entity
+@Table(indexes = @Index(name = "idx_event_provider", columnList = "provider"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Event {
 
+    // Assigned from the natural key (see EventKeys) rather than generated, so
+    // inserts can be JDBC-batched and re-scrapes map to the same row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(unique = true, nullable = false, length = 512)
+    private String naturalKey; // provider + normalized URL
+
+    @JsonIgnore
+    @Column(length = 16)
+    private String rowHash; // hash of the persisted fields, used to skip unchanged rows
+
+    @JsonIgnore
+    @Column(length = 16)
+    private String fingerprint; // hash of the listing-level fields, used to skip re-scraping details
+
     private String title;
 
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Column(columnDefinition = "TEXT")
     private String blurb;
 
+    // Longer than the natural key: it still carries the tracking parameters the key drops
+    @Column(length = 1024)
     private String url;
 
     private String location;
@@ -33,15 +52,36 @@ public class Event {
     private String imageUrl;
 
     private String provider; // e.g., "DEVPOST", "MLH"
+    @Column(columnDefinition = "TEXT")
     private String requirements;
+    @Column(columnDefinition = "TEXT")
     private String judges;
+    @Column(columnDefinition = "TEXT")
     private String judgingCriteria;
     private String type;
 
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, String> alsoListedOn; // provider -> url of the same event on other providers
+
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm; // set on "near" query results only
+
     private LocalDateTime scrappedAt;
 
     @PrePersist
     protected void onCreate() {
         scrappedAt = LocalDateTime.now();
     }
+
+    /**
+     * A copy of the scraped fields, without the per-response annotations
+     * ({@code alsoListedOn}, {@code distanceKm}), for handing out events that
+     * are shared with a cache or store.
+     */
+    public Event copy() {
+        return new Event(id, naturalKey, rowHash, fingerprint, title, description, blurb, url, location, date,
+                imageUrl, provider, requirements, judges, judgingCriteria, type, null, null, scrappedAt);
+    }
 }
@@ -0,0 +1,22 @@
+package com.hackhub.model.dto;
+
+import com.hackhub.model.Event;
+
+import java.util.List;
+
+/**
+ * Events returned by a scrape, and whether the scrape ran to its end: it
+ * collected the requested count or the source ran out of events. A scrape
+ * cut short by an error, a timeout or an interrupt returns what it had
+ * collected as a partial result.
+ */
+public record ScrapeResult(List<Event> events, boolean complete) {
+
+    public static ScrapeResult complete(List<Event> events) {
+        return new ScrapeResult(events, true);
+    }
+
+    public static ScrapeResult partial(List<Event> events) {
+        return new ScrapeResult(events, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.hackhub.service;
+
+import com.hackhub.model.Event;
+
+import java.util.List;
+
+public interface EventPersistenceService {
+
+    /**
+     * Insert or update events by their natural key (provider + URL) using
+     * batched statements. Rows whose content did not change are not written.
+     *
+     * @param events Scraped events; natural keys are assigned if missing.
+     * @return Counts of inserted, updated and unchanged rows.
+     */
+    UpsertResult upsertAll(List<Event> events);
+
+    record UpsertResult(int inserted, int updated, int unchanged) {
+        public int written() {
+            return inserted + updated;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.hackhub.service;
 
 import com.hackhub.model.Event;
+import com.hackhub.model.dto.ScrapeResult;
 import java.io.IOException;
 import java.util.List;
 
@@ -11,9 +12,9 @@ public interface ScraperService {
      * @param domain   The topic or technology (e.g., "Java").
      * @param location The location filter (e.g., "New York").
      * @param count    The minimum number of events to retrieve.
-     * @return List of scraped events.
+     * @return The scraped events, flagged partial if the scrape was cut short.
      */
-    List<Event> scrapeDevpost(String domain, String location, int count);
+    ScrapeResult scrapeDevpost(String domain, String location, int count);
 
     /**
      * Scrapes MLH for hackathons and fetches external details.
@@ -21,9 +22,10 @@ public interface ScraperService {
      * @param domain   The search term (filtered by title).
      * @param location The location filter.
      * @param count    The number of events to retrieve.
-     * @return List of scraped events with external details.
+     * @return The scraped events with external details, flagged partial if the
+     *         scrape was cut short.
      */
-    List<Event> scrapeMlh(String domain, String location, int count);
+    ScrapeResult scrapeMlh(String domain, String location, int count);
 
     /**
      * Streams Devpost events in real-time.
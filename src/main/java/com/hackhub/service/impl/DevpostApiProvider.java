@@ -0,0 +1,173 @@
+package com.hackhub.service.impl;
+
+import com.hackhub.model.Event;
+import com.hackhub.store.EventMatcher;
+import com.hackhub.store.EventStore;
+import com.hackhub.util.EventKeys;
+import com.khalid.scraper.model.HackathonDTO;
+import com.khalid.scraper.service.DevpostService;
+import com.khalid.scraper.util.LogSampler;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Devpost provider backed by the JSON API ({@link DevpostService}) instead of
+ * a rendered browser page. Listing pages come back as JSON; detail fields are
+ * filled from the static challenge page with Jsoup on virtual threads, with at
+ * most {@code detail-parallelism} page fetches in flight across all requests.
+ * Events whose listing fingerprint matches the {@link EventStore} copy reuse
+ * its details and skip the page fetch.
+ */
+@Slf4j
+@Component
+public class DevpostApiProvider {
+
+    // Per-page lines are rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
+    private final DevpostService devpostService;
+    private final EventStore eventStore;
+    private final int maxPages;
+    private final Semaphore detailPermits;
+
+    public DevpostApiProvider(DevpostService devpostService, EventStore eventStore,
+            @Value("${scraper.devpost.api.max-pages:20}") int maxPages,
+            @Value("${scraper.devpost.api.detail-parallelism:4}") int detailParallelism) {
+        this.devpostService = devpostService;
+        this.eventStore = eventStore;
+        this.maxPages = maxPages;
+        this.detailPermits = new Semaphore(Math.max(1, detailParallelism));
+    }
+
+    /**
+     * Fetch up to {@code count} events matching the filters.
+     *
+     * @param onEvent called for each event as soon as its details are in
+     *                (completion order)
+     * @return the events in listing order
+     * @throws Exception if the API cannot be reached; callers fall back to the
+     *                   browser scraper
+     */
+    public List<Event> fetch(String domain, String location, int count, Consumer<Event> onEvent) throws Exception {
+        List<Event> events = new ArrayList<>();
+
+        for (int page = 1; page <= maxPages && events.size() < count; page++) {
+            List<HackathonDTO> listing = devpostService.fetchPage(page, domain, false);
+            SAMPLER.at(log, Level.INFO, "devpost.api.page").addKeyValue("page", page)
+                    .addKeyValue("hackathons", listing.size()).log("Fetched Devpost API page");
+            if (listing.isEmpty())
+                break;
+
+            List<HackathonDTO> batch = new ArrayList<>();
+            for (HackathonDTO dto : listing) {
+                if (events.size() + batch.size() >= count)
+                    break;
+                if (EventMatcher.matchesLocation(dto.getLocation(), location))
+                    batch.add(dto);
+            }
+
+            Map<HackathonDTO, Event> mapped = new IdentityHashMap<>();
+            List<HackathonDTO> changed = new ArrayList<>();
+            for (HackathonDTO dto : batch) {
+                Event event = toEvent(dto);
+                if (eventStore.reuseUnchanged(event)) {
+                    mapped.put(dto, event);
+                    onEvent.accept(event);
+                } else {
+                    changed.add(dto);
+                }
+            }
+            if (changed.size() < batch.size())
+                SAMPLER.at(log, Level.DEBUG, "devpost.api.reused").addKeyValue("page", page)
+                        .addKeyValue("unchanged", batch.size() - changed.size()).log("Reusing unchanged details");
+
+            // Scoped to this page: closing waits for every task, and an
+            // interrupt of the calling thread cancels the ones still running
+            try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+                CompletionService<HackathonDTO> completions = new ExecutorCompletionService<>(scope);
+                List<Future<HackathonDTO>> futures = new ArrayList<>();
+                for (HackathonDTO dto : changed) {
+                    futures.add(completions.submit(() -> {
+                        detailPermits.acquire();
+                        try {
+                            devpostService.enrichFromPage(dto);
+                        } finally {
+                            detailPermits.release();
+                        }
+                        return dto;
+                    }));
+                }
+
+                try {
+                    for (int i = 0; i < changed.size(); i++) {
+                        HackathonDTO dto = completions.take().get();
+                        Event event = toEvent(dto);
+                        mapped.put(dto, event);
+                        onEvent.accept(event);
+                    }
+                } catch (Exception e) {
+                    futures.forEach(future -> future.cancel(true));
+                    throw e;
+                }
+            }
+            for (HackathonDTO dto : batch) {
+                events.add(mapped.get(dto));
+            }
+        }
+        return events;
+    }
+
+    private Event toEvent(HackathonDTO dto) {
+        Event event = new Event();
+        event.setTitle(dto.getTitle());
+        event.setUrl(dto.getUrl());
+        event.setLocation(dto.getLocation());
+        event.setDate(formatDates(dto.getStartDate(), dto.getEndDate()));
+        event.setImageUrl(absoluteUrl(dto.getThumbnailUrl()));
+        event.setBlurb(emptyToNull(dto.getBlurb()));
+        event.setDescription(emptyToNull(dto.getDescription()));
+        event.setRequirements(emptyToNull(dto.getRequirements()));
+        event.setJudges(emptyToNull(dto.getJudges()));
+        event.setJudgingCriteria(emptyToNull(dto.getJudgingCriteria()));
+        event.setProvider("DEVPOST");
+        event.setType("HACKATHON");
+        // Listing fields only, so enrichment does not change it
+        event.setFingerprint(EventKeys.fingerprint(dto.getTitle(), dto.getLocation(), dto.getStartDate(),
+                dto.getEndDate(), dto.getPrizeAmount(), String.valueOf(dto.getRegistrationsCount()),
+                dto.getOpenState(), dto.getThumbnailUrl()));
+        return EventKeys.assign(event);
+    }
+
+    private String formatDates(String start, String end) {
+        if (start == null || start.isBlank())
+            return end;
+        if (end == null || end.isBlank() || end.equals(start))
+            return start;
+        return start + " - " + end;
+    }
+
+    /** The API returns protocol-relative thumbnail URLs ("//host/path"). */
+    private String absoluteUrl(String url) {
+        if (url != null && url.startsWith("//"))
+            return "https:" + url;
+        return url;
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,152 @@
+package com.hackhub.service.impl;
+
+import com.hackhub.model.Event;
+import com.hackhub.service.EventPersistenceService;
+import com.hackhub.util.EventKeys;
+import com.khalid.scraper.util.LogSampler;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Batch upserts scraped events with plain JDBC.
+ *
+ * One SELECT per chunk of natural keys loads the stored row hashes; only new
+ * or changed events are then written with a single batched
+ * INSERT ... ON DUPLICATE KEY UPDATE (MySQL), which the driver rewrites into
+ * multi-row statements when rewriteBatchedStatements=true.
+ */
+@Slf4j
+@Service
+public class EventPersistenceServiceImpl implements EventPersistenceService {
+
+    // One line per scrape request is rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
+    private static final int LOOKUP_CHUNK = 500;
+
+    private static final String UPSERT_SQL = "INSERT INTO event (id, natural_key, row_hash, fingerprint, title, "
+            + "description, blurb, url, location, `date`, image_url, provider, requirements, judges, judging_criteria, "
+            + "type, scrapped_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE row_hash = VALUES(row_hash), fingerprint = VALUES(fingerprint), "
+            + "title = VALUES(title), description = VALUES(description), blurb = VALUES(blurb), url = VALUES(url), "
+            + "location = VALUES(location), `date` = VALUES(`date`), image_url = VALUES(image_url), "
+            + "requirements = VALUES(requirements), judges = VALUES(judges), "
+            + "judging_criteria = VALUES(judging_criteria), type = VALUES(type), scrapped_at = VALUES(scrapped_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final int batchSize;
+
+    public EventPersistenceServiceImpl(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate,
+            @Value("${scraper.persistence.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    @Transactional
+    public UpsertResult upsertAll(List<Event> events) {
+        // Last occurrence wins if a crawl returned the same event twice
+        Map<String, Event> byKey = new LinkedHashMap<>();
+        for (Event event : events) {
+            if (event.getNaturalKey() == null)
+                EventKeys.assign(event);
+            event.setRowHash(rowHash(event));
+            byKey.put(event.getNaturalKey(), event);
+        }
+        if (byKey.isEmpty())
+            return new UpsertResult(0, 0, 0);
+
+        Map<String, String> stored = loadRowHashes(new ArrayList<>(byKey.keySet()));
+
+        List<Event> toWrite = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+        for (Event event : byKey.values()) {
+            String existing = stored.get(event.getNaturalKey());
+            if (existing == null) {
+                inserted++;
+            } else if (!existing.equals(event.getRowHash())) {
+                updated++;
+            } else {
+                continue;
+            }
+            toWrite.add(event);
+        }
+
+        if (!toWrite.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(UPSERT_SQL, toWrite, batchSize, (ps, e) -> {
+                ps.setLong(1, e.getId());
+                ps.setString(2, e.getNaturalKey());
+                ps.setString(3, e.getRowHash());
+                ps.setString(4, e.getFingerprint());
+                ps.setString(5, e.getTitle());
+                ps.setString(6, e.getDescription());
+                ps.setString(7, e.getBlurb());
+                ps.setString(8, e.getUrl());
+                ps.setString(9, e.getLocation());
+                ps.setString(10, e.getDate());
+                ps.setString(11, e.getImageUrl());
+                ps.setString(12, e.getProvider());
+                ps.setString(13, e.getRequirements());
+                ps.setString(14, e.getJudges());
+                ps.setString(15, e.getJudgingCriteria());
+                ps.setString(16, e.getType());
+                ps.setTimestamp(17, now);
+            });
+        }
+
+        UpsertResult result = new UpsertResult(inserted, updated, byKey.size() - toWrite.size());
+        SAMPLER.at(log, Level.INFO, "persistence.upsert").addKeyValue("events", byKey.size())
+                .addKeyValue("inserted", inserted).addKeyValue("updated", updated)
+                .addKeyValue("unchanged", result.unchanged()).log("Upserted scraped events");
+        return result;
+    }
+
+    private Map<String, String> loadRowHashes(List<String> keys) {
+        Map<String, String> hashes = new HashMap<>();
+        for (int i = 0; i < keys.size(); i += LOOKUP_CHUNK) {
+            List<String> chunk = keys.subList(i, Math.min(i + LOOKUP_CHUNK, keys.size()));
+            namedJdbcTemplate.query("SELECT natural_key, row_hash FROM event WHERE natural_key IN (:keys)",
+                    Map.of("keys", chunk),
+                    rs -> {
+                        hashes.put(rs.getString(1), Objects.toString(rs.getString(2), ""));
+                    });
+        }
+        return hashes;
+    }
+
+    static String rowHash(Event e) {
+        String content = String.join("\u0000",
+                Objects.toString(e.getTitle(), ""),
+                Objects.toString(e.getDescription(), ""),
+                Objects.toString(e.getBlurb(), ""),
+                Objects.toString(e.getUrl(), ""),
+                Objects.toString(e.getLocation(), ""),
+                Objects.toString(e.getDate(), ""),
+                Objects.toString(e.getImageUrl(), ""),
+                Objects.toString(e.getProvider(), ""),
+                Objects.toString(e.getRequirements(), ""),
+                Objects.toString(e.getJudges(), ""),
+                Objects.toString(e.getJudgingCriteria(), ""),
+                Objects.toString(e.getType(), ""),
+                Objects.toString(e.getFingerprint(), ""));
+        return EventKeys.shortHash(content);
+    }
+}
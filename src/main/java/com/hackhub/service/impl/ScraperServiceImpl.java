@@ -1,251 +1,331 @@
 package com.hackhub.service.impl;
 
+import com.google.gson.Gson;
+import com.hackhub.browser.PageReadiness;
+import com.hackhub.browser.ResourceBlocker;
+import com.hackhub.browser.WebDriverPool;
 import com.hackhub.model.Event;
+import com.hackhub.model.dto.ScrapeResult;
+import com.hackhub.service.EventPersistenceService;
 import com.hackhub.service.ScraperService;
+import com.hackhub.store.EventMatcher;
+import com.hackhub.store.EventStore;
+import com.hackhub.util.EventKeys;
+import com.khalid.scraper.http.PageFetcher;
+import com.khalid.scraper.util.HostRateLimiter;
+import com.khalid.scraper.util.LogSampler;
+import com.khalid.scraper.util.ScrapeMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@Slf4j
 @Service
 public class ScraperServiceImpl implements ScraperService {
 
-    private static final String DEVPOST_URL = "https://devpost.com/hackathons";
-    private static final String MLH_URL = "https://mlh.io/seasons/2026/events";
-
-    private WebDriver createDriver() {
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless=new");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-extensions");
-        options.addArguments(
-                "user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120 Safari/537.36");
-
-        // Use system Chrome/Chromium if available (for Docker), otherwise use
-        // WebDriverManager
-        String chromeBin = System.getenv("CHROME_BIN");
-        if (chromeBin != null && !chromeBin.isEmpty()) {
-            System.out.println("Using system Chrome/Chromium at: " + chromeBin);
-            options.setBinary(chromeBin);
-            System.setProperty("webdriver.chrome.driver", System.getenv("CHROMEDRIVER_BIN"));
-        } else {
-            System.out.println("Using WebDriverManager to setup ChromeDriver");
-            WebDriverManager.chromedriver().setup();
-        }
+    private static final String DEVPOST_TILES = ".challenge-listing, .hackathon-tile";
+    private static final String DEVPOST_DESCRIPTION = "#challenge-description, .challenge-description, #challenge-overview, .content-section";
+    private static final String MLH_CARDS = ".event-wrapper";
+    // arguments[0]: card selector. innerText matches what WebElement.getText() returned.
+    private static final String MLH_CARD_SCRIPT = """
+            const text = (card, css) => { const el = card.querySelector(css); return el ? el.innerText.trim() : null; };
+            const prop = (card, css, name) => { const el = card.querySelector(css); return el && el[name] ? el[name] : null; };
+            return JSON.stringify(Array.from(document.querySelectorAll(arguments[0]), card => ({
+                title: text(card, '.event-name'),
+                url: prop(card, 'a.event-link', 'href'),
+                location: text(card, '.event-location'),
+                date: text(card, '.event-date'),
+                imageUrl: prop(card, '.image-wrap img', 'src')
+            })));
+            """;
+    private static final Gson GSON = new Gson();
+    // Per-event lines (one per tile, card or detail page) are rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
+    private final WebDriverPool driverPool;
+    private final PageReadiness readiness;
+    private final ResourceBlocker blocker;
+    private final HostRateLimiter rateLimiter;
+    private final PageFetcher pageFetcher;
+    private final DevpostApiProvider devpostApi;
+    private final EventPersistenceService persistence;
+    private final EventStore eventStore;
+    private final String devpostUrl;
+    private final String mlhUrl;
+    private final boolean devpostApiEnabled;
+    private final boolean persistenceEnabled;
+    private final int deepScrapeParallelism;
+
+    public ScraperServiceImpl(WebDriverPool driverPool, PageReadiness readiness, ResourceBlocker blocker,
+            HostRateLimiter rateLimiter,
+            PageFetcher pageFetcher, DevpostApiProvider devpostApi, EventPersistenceService persistence,
+            EventStore eventStore,
+            @Value("${scraper.devpost.url:https://devpost.com/hackathons}") String devpostUrl,
+            @Value("${scraper.mlh.url:https://mlh.io/seasons/2026/events}") String mlhUrl,
+            @Value("${scraper.devpost.api.enabled:true}") boolean devpostApiEnabled,
+            @Value("${scraper.persistence.enabled:true}") boolean persistenceEnabled,
+            @Value("${scraper.deep-scrape.parallelism:3}") int deepScrapeParallelism) {
+        this.driverPool = driverPool;
+        this.readiness = readiness;
+        this.blocker = blocker;
+        this.rateLimiter = rateLimiter;
+        this.pageFetcher = pageFetcher;
+        this.devpostApi = devpostApi;
+        this.persistence = persistence;
+        this.eventStore = eventStore;
+        this.devpostUrl = devpostUrl;
+        this.mlhUrl = mlhUrl;
+        this.devpostApiEnabled = devpostApiEnabled;
+        this.persistenceEnabled = persistenceEnabled;
+        this.deepScrapeParallelism = Math.max(1, deepScrapeParallelism);
+    }
+
+    @Override
+    public ScrapeResult scrapeDevpost(String domain, String location, int count) {
+        ScrapeResult result = fetchDevpost(domain, location, count);
+        persist(result.events());
+        return result;
+    }
 
-        WebDriver driver = new ChromeDriver(options);
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
-        return driver;
+    @Override
+    public ScrapeResult scrapeMlh(String domain, String location, int count) {
+        ScrapeResult result = scrapeMlhWithBrowser(domain, location, count);
+        persist(result.events());
+        return result;
+    }
+
+    @Override
+    public void streamDevpost(String domain, String location, int count, Consumer<Event> onEvent,
+            Runnable onComplete) {
+        List<Event> emitted = Collections.synchronizedList(new ArrayList<>());
+        fetchDevpostStream(domain, location, count, event -> {
+            emitted.add(event);
+            onEvent.accept(event);
+        }, () -> {
+            onComplete.run();
+            persist(emitted);
+        });
     }
 
     @Override
-    public List<Event> scrapeDevpost(String domain, String location, int count) {
+    public void streamMlh(String domain, String location, int count, Consumer<Event> onEvent,
+            Runnable onComplete) {
+        List<Event> emitted = Collections.synchronizedList(new ArrayList<>());
+        streamMlhWithBrowser(domain, location, count, event -> {
+            emitted.add(event);
+            onEvent.accept(event);
+        }, () -> {
+            onComplete.run();
+            persist(emitted);
+        });
+    }
+
+    /** The Devpost listing page for a search term, which may contain spaces or symbols. */
+    private String devpostSearchUrl(String domain, int page) {
+        String term = domain != null ? URLEncoder.encode(domain, StandardCharsets.UTF_8) : "";
+        return devpostUrl + "?search=" + term + "&page=" + page;
+    }
+
+    /**
+     * Browser navigation, paced by the shared per-host limiter like every
+     * other fetch, with the provider's resource blocking profile applied. The
+     * timer covers the page load only, not the rate-limit wait.
+     */
+    private void navigate(WebDriver driver, String url) throws InterruptedException {
+        rateLimiter.acquire(url);
+        ResourceBlocker.Load load = blocker.start(driver, url);
+        long start = System.nanoTime();
+        String outcome = ScrapeMetrics.ERROR;
+        try {
+            driver.get(url);
+            outcome = ScrapeMetrics.SUCCESS;
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            ScrapeMetrics.record("navigate", ScrapeMetrics.providerOf(url), outcome, elapsed);
+            if (ScrapeMetrics.SUCCESS.equals(outcome))
+                blocker.finish(load, elapsed);
+        }
+    }
+
+    /**
+     * Save scraped events without failing the scrape if the database is
+     * unavailable.
+     */
+    private List<Event> persist(List<Event> events) {
+        if (persistenceEnabled && !events.isEmpty()) {
+            try {
+                persistence.upsertAll(new ArrayList<>(events));
+            } catch (Exception e) {
+                log.atWarn().addKeyValue("events", events.size()).addKeyValue("error", e.getMessage())
+                        .log("Could not persist scraped events");
+            }
+        }
+        return events;
+    }
+
+    private ScrapeResult fetchDevpost(String domain, String location, int count) {
+        if (devpostApiEnabled) {
+            try {
+                List<Event> events = devpostApi.fetch(domain, location, count, event -> {});
+                if (!events.isEmpty()) {
+                    log.atInfo().addKeyValue("provider", "devpost").addKeyValue("events", events.size())
+                            .log("Devpost API scrape finished");
+                    return ScrapeResult.complete(events);
+                }
+                log.warn("Devpost API returned no results, falling back to browser scrape");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ScrapeResult.partial(new ArrayList<>());
+            } catch (Exception e) {
+                log.warn("Devpost API failed ({}), falling back to browser scrape", e.getMessage());
+            }
+        }
+        return scrapeDevpostWithBrowser(domain, location, count);
+    }
+
+    private ScrapeResult scrapeDevpostWithBrowser(String domain, String location, int count) {
         List<Event> events = new ArrayList<>();
-        WebDriver driver = createDriver();
+        // Stays true only if every listing page settled and no step failed
+        boolean complete = false;
+        WebDriver driver = driverPool.borrow();
 
         try {
-            System.out.println("\n========================================");
-            System.out.println("🔍 [DEVPOST SCRAPER] Starting scrape request");
-            System.out.println("   Domain: " + (domain == null || domain.isBlank() ? "ALL" : domain));
-            System.out.println("   Location: " + (location == null || location.isBlank() ? "ALL" : location));
-            System.out.println("   Count: " + count);
-            System.out.println("========================================\n");
+            logStart("devpost", domain, location, count);
 
             int page = 1;
+            boolean settled = true;
             while (events.size() < count) {
-                String searchUrl = DEVPOST_URL + "?search=" + (domain != null ? domain : "") + "&page=" + page;
-                System.out.println("🌐 Navigating to page " + page + ": " + searchUrl);
-                driver.get(searchUrl);
-                Thread.sleep(3000);
-                System.out.println("✅ Page " + page + " loaded");
+                String searchUrl = devpostSearchUrl(domain, page);
+                log.debug("Loading Devpost listing page {}: {}", page, searchUrl);
+                navigate(driver, searchUrl);
+                settled &= readiness.await(driver, "devpost-listing", readiness.countStable(DEVPOST_TILES));
 
-                List<WebElement> tiles = driver.findElements(By.cssSelector(".challenge-listing, .hackathon-tile"));
-                System.out.println("📋 Found " + tiles.size() + " hackathon tiles on page " + page);
+                Elements tiles = snapshot(driver, searchUrl, DEVPOST_TILES);
+                log.debug("Found {} hackathon tiles on page {}", tiles.size(), page);
 
                 if (tiles.isEmpty()) {
-                    System.out.println("⚠️  No more tiles found, stopping pagination");
+                    log.debug("No more tiles, stopping pagination");
                     break;
                 }
 
                 // 1. First Pass: Collect basic info from all tiles on the page
-                // We do NOT deep scrape here to avoid StaleElementReferenceExceptions
                 List<Event> pageEvents = new ArrayList<>();
-                for (WebElement tile : tiles) {
-                    Event event = parseDevpostEvent(tile, driver);
-                    if (event != null) {
-                        // Apply location filter early if possible
-                        if (location != null && !location.isBlank()) {
-                            if (event.getLocation() == null
-                                    || !event.getLocation().toLowerCase().contains(location.toLowerCase())) {
-                                continue;
-                            }
-                        }
+                for (Element tile : tiles) {
+                    Event event = parseDevpostEvent(tile);
+                    // Apply location filter early (domain is already applied by Devpost search)
+                    if (event != null && EventMatcher.matchesLocation(event.getLocation(), location)) {
                         pageEvents.add(event);
                     }
                 }
 
-                System.out.println("   [First Pass] Extracted " + pageEvents.size() + " events from page " + page);
-
-                // 2. Second Pass: Deep Scrape details (now safe to navigate)
-                for (Event event : pageEvents) {
-                    if (events.size() >= count)
-                        break;
+                log.debug("First pass extracted {} events from page {}", pageEvents.size(), page);
 
-                    fetchDevpostDetails(event, driver); // Visits URL, fills description, prizes, etc.
-                    events.add(event);
-                    System.out.println("   [Pagination] Collected " + events.size() + "/" + count + " events");
-                }
+                // 2. Second Pass: Deep Scrape details (now safe to navigate), fanned out
+                // over several sessions. The page batch keeps listing order.
+                List<Event> batch = pageEvents.subList(0, Math.min(pageEvents.size(), count - events.size()));
+                AtomicInteger enriched = new AtomicInteger(events.size());
+                deepScrapeDevpost(batch, driver, event -> SAMPLER.at(log, Level.INFO, "devpost.collected")
+                        .addKeyValue("collected", enriched.incrementAndGet()).addKeyValue("count", count)
+                        .log("Collected Devpost event"));
+                events.addAll(batch);
 
                 page++;
             }
+            complete = settled;
 
-            System.out.println("\n========================================");
-            System.out.println("✅ [DEVPOST SCRAPER] Completed successfully!");
-            System.out.println("   Total events returned: " + events.size());
-            System.out.println("========================================\n");
+            log.atInfo().addKeyValue("provider", "devpost").addKeyValue("events", events.size())
+                    .addKeyValue("complete", complete).log("Browser scrape finished");
         } catch (Exception e) {
-            System.err.println("\n❌ [DEVPOST SCRAPER] Error occurred:");
-            e.printStackTrace();
+            log.error("Devpost browser scrape failed after {} events", events.size(), e);
         } finally {
-            driver.quit();
+            driverPool.release(driver);
         }
-        return events;
+        return new ScrapeResult(events, complete);
     }
 
-    @Override
-    public List<Event> scrapeMlh(String domain, String location, int count) {
+    private ScrapeResult scrapeMlhWithBrowser(String domain, String location, int count) {
         List<Event> events = new ArrayList<>();
-        WebDriver driver = createDriver();
+        // A timed out or unsettled listing may be missing cards
+        boolean complete = false;
+        WebDriver driver = driverPool.borrow();
 
         try {
-            System.out.println("\n========================================");
-            System.out.println("🔍 [MLH SCRAPER] Starting scrape request");
-            System.out.println("   Domain: " + (domain == null || domain.isBlank() ? "ALL" : domain));
-            System.out.println("   Location: " + (location == null || location.isBlank() ? "ALL" : location));
-            System.out.println("   Count: " + count);
-            System.out.println("========================================\n");
-
-            System.out.println("🌐 Navigating to: " + MLH_URL);
+            logStart("mlh", domain, location, count);
+            boolean loaded = true;
             try {
                 driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30)); // Increase timeout
-                driver.get(MLH_URL);
+                navigate(driver, mlhUrl);
             } catch (TimeoutException e) {
-                System.out.println("⚠️ Navigation timed out but page might be loaded. Continuing...");
+                log.warn("Navigation to {} timed out, continuing with what has loaded", mlhUrl);
+                loaded = false;
             }
-            Thread.sleep(3000);
-            System.out.println("✅ Page loaded sequence finished");
+            loaded &= readiness.await(driver, "mlh-listing", readiness.countStable(MLH_CARDS));
 
-            // 1. Get initial list of cards and extract ALL data immediately
-            List<WebElement> cards = driver.findElements(By.cssSelector(".event-wrapper"));
-            System.out.println("📋 Found " + cards.size() + " total event cards on page");
+            // 1. Read every card in one script call
+            List<MlhCard> cards = mlhCards(driver);
+            log.debug("Found {} MLH event cards", cards.size());
 
-            // 2. Extract basic info from all cards IMMEDIATELY (before elements go stale)
+            // 2. Build events from the card data, in-process
             List<Event> basicEvents = new ArrayList<>();
 
             for (int i = 0; i < cards.size() && basicEvents.size() < count; i++) {
+                long parseStart = System.nanoTime();
+                String parsed = ScrapeMetrics.ERROR;
                 try {
-                    WebElement card = cards.get(i);
-
-                    // Extract ALL data from this element NOW before it goes stale
-                    String title = "";
-                    String url = "";
-                    String eventLoc = "";
-                    String eventDate = "";
-                    String imageUrl = "";
-
-                    try {
-                        title = card.findElement(By.cssSelector(".event-name")).getText().trim();
-                    } catch (Exception e) {
-                        System.err.println("[MLH] Could not get event name: " + e.getMessage());
-                        continue; // Skip this card if we can't get the title
-                    }
-
-                    try {
-                        url = card.findElement(By.cssSelector("a.event-link")).getAttribute("href");
-                    } catch (Exception e) {
-                        System.err.println("[MLH] Could not get URL for: " + title);
-                    }
-
-                    try {
-                        eventLoc = card.findElement(By.cssSelector(".event-location")).getText().trim();
-                    } catch (Exception ignored) {
-                        // Location is optional
-                    }
-
-                    try {
-                        eventDate = card.findElement(By.cssSelector(".event-date")).getText().trim();
-                    } catch (Exception ignored) {
-                        // Date is optional
-                    }
-
-                    try {
-                        imageUrl = card.findElement(By.cssSelector(".image-wrap img")).getAttribute("src");
-                    } catch (Exception ignored) {
-                        // Image is optional
-                    }
-
-                    // Apply filters AFTER extracting data
-                    if (domain != null && !domain.isBlank() && !title.toLowerCase().contains(domain.toLowerCase())) {
+                    Event event = toMlhEvent(cards.get(i));
+                    if (event == null) {
+                        SAMPLER.at(log, Level.WARN, "mlh.card.untitled").addKeyValue("card", i)
+                                .log("Skipping MLH card without an event name");
                         continue;
                     }
-
-                    // Smart location filtering - treat Remote, Online, Worldwide, Everywhere as
-                    // equivalent
-                    if (location != null && !location.isBlank()) {
-                        String filterLoc = location.toLowerCase();
-                        String eventLocation = eventLoc.toLowerCase();
-
-                        // Check if filter is for remote events
-                        boolean filterIsRemote = filterLoc.contains("remote") || filterLoc.contains("online") ||
-                                filterLoc.contains("worldwide") || filterLoc.contains("everywhere");
-
-                        // Check if event is remote
-                        boolean eventIsRemote = eventLocation.contains("online") || eventLocation.contains("worldwide")
-                                ||
-                                eventLocation.contains("everywhere") || eventLocation.contains("remote");
-
-                        // If filtering for remote and event is remote, include it
-                        // Otherwise check if location matches normally
-                        if (!filterIsRemote || !eventIsRemote) {
-                            if (!eventLocation.contains(filterLoc)) {
-                                continue;
-                            }
-                        }
+                    // Apply filters AFTER extracting data. Remote, Online, Worldwide,
+                    // Everywhere are treated as equivalent locations.
+                    if (!EventMatcher.matches(event, domain, location)) {
+                        parsed = "filtered";
+                        continue;
                     }
 
-                    // Create event object with extracted data
-                    Event event = new Event();
-                    // Generate unique ID from title and URL hash
-                    event.setId((long) (title + url).hashCode() & 0x7FFFFFFF);
-                    event.setTitle(title);
-                    event.setUrl(url);
-                    event.setLocation(eventLoc);
-                    event.setDate(eventDate);
-                    event.setImageUrl(imageUrl);
-                    event.setProvider("MLH");
-                    event.setType("HACKATHON");
-
                     basicEvents.add(event);
-                    System.out.println("[MLH] Extracted: " + title);
+                    parsed = ScrapeMetrics.SUCCESS;
+                    SAMPLER.at(log, Level.DEBUG, "mlh.card").addKeyValue("title", event.getTitle())
+                            .log("Extracted MLH event");
 
                 } catch (Exception e) {
-                    System.err.println("[MLH] Error parsing card " + i + ": " + e.getMessage());
+                    SAMPLER.at(log, Level.WARN, "mlh.card.error").addKeyValue("card", i)
+                            .addKeyValue("error", e.getMessage()).log("Could not parse MLH card");
+                } finally {
+                    ScrapeMetrics.record("parse", "mlh", parsed, System.nanoTime() - parseStart);
                 }
             }
 
-            System.out.println("[MLH] Successfully extracted " + basicEvents.size() + " events");
+            log.debug("Extracted {} MLH events", basicEvents.size());
 
             // 3. Deep Scraping (Visit each URL) - optional, skip for now to speed up
             for (Event event : basicEvents) {
@@ -253,17 +333,27 @@ public class ScraperServiceImpl implements ScraperService {
                     break;
 
                 // Skip deep scraping for now to avoid timeouts
-                // System.out.println("Deep scraping: " + event.getUrl());
                 // fetchExternalDetails(event, driver);
                 events.add(event);
             }
+            complete = loaded;
 
+            log.atInfo().addKeyValue("provider", "mlh").addKeyValue("events", events.size())
+                    .addKeyValue("complete", complete).log("Browser scrape finished");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("MLH browser scrape failed after {} events", events.size(), e);
         } finally {
-            driver.quit();
+            driverPool.release(driver);
         }
-        return events;
+        return new ScrapeResult(events, complete);
+    }
+
+    private static void logStart(String provider, String domain, String location, int count) {
+        log.atInfo().addKeyValue("provider", provider)
+                .addKeyValue("domain", domain == null || domain.isBlank() ? "ALL" : domain)
+                .addKeyValue("location", location == null || location.isBlank() ? "ALL" : location)
+                .addKeyValue("count", count)
+                .log("Browser scrape started");
     }
 
     /**
@@ -273,60 +363,100 @@ public class ScraperServiceImpl implements ScraperService {
         if (event.getUrl() == null || event.getUrl().isBlank())
             return;
 
+        // Static sites need no browser: try the (cached) HTTP fetch first and
+        // only render when it has no real content block
+        Document cachedDoc = fetchStatic(event.getUrl());
+        if (cachedDoc != null && applyExternalDetails(event, cachedDoc, false))
+            return;
+
         try {
-            System.out.println("   [Deep Scrape] Visiting: " + event.getUrl());
-            driver.get(event.getUrl());
-            Thread.sleep(3000); // Wait for external site to load (handling SPAs)
+            SAMPLER.at(log, Level.DEBUG, "external.visit").addKeyValue("url", event.getUrl())
+                    .log("Rendering external page");
+            navigate(driver, event.getUrl());
+            // Wait for external site to load (handling SPAs)
+            readiness.await(driver, "external-page", readiness.networkIdle());
 
             String pageSource = driver.getPageSource();
-            Document doc = Jsoup.parse(pageSource);
+            applyExternalDetails(event, Jsoup.parse(pageSource), true);
 
-            // --- Tier 1: Structured Metadata ---
-            String metaDesc = getMetaContent(doc, "og:description", "description", "twitter:description");
-            if (metaDesc != null) {
-                event.setBlurb(metaDesc); // Use reliable metadata as 'blurb'
-            }
+        } catch (Exception e) {
+            SAMPLER.at(log, Level.WARN, "external.error").addKeyValue("url", event.getUrl())
+                    .addKeyValue("error", e.getMessage()).log("External deep scrape failed");
+        }
+    }
 
-            // --- Tier 2: Semantic Sections (Heuristic) ---
-            // Try to find common containers for "About" or "Description"
-            String description = null;
-            Elements contentCandidates = doc
-                    .select("main, article, #about, #description, .about-section, .description-section, .post-content");
-
-            if (!contentCandidates.isEmpty()) {
-                // Pick the largest text block from candidates
-                for (Element el : contentCandidates) {
-                    if (el.text().length() > 200) {
-                        description = el.html(); // Keep HTML structure
-                        break;
-                    }
-                }
-            }
+    /**
+     * @param bodyFallback use the start of the body when no content block is
+     *                     found
+     * @return whether a description was found
+     */
+    static boolean applyExternalDetails(Event event, Document doc, boolean bodyFallback) {
+        // --- Tier 1: Structured Metadata ---
+        String metaDesc = getMetaContent(doc, "og:description", "description", "twitter:description");
+        if (metaDesc != null) {
+            event.setBlurb(metaDesc); // Use reliable metadata as 'blurb'
+        }
 
-            // --- Tier 3: Body Fallback (If Tier 2 failed) ---
-            if (description == null) {
-                Element body = doc.body();
-                if (body != null) {
-                    // limit to first 2000 chars roughly to avoid massive generic footers
-                    String text = body.html();
-                    // Basic heuristic: find first significant block
-                    description = text.length() > 3000 ? text.substring(0, 3000) + "..." : text;
+        // --- Tier 2: Semantic Sections (Heuristic) ---
+        // Try to find common containers for "About" or "Description"
+        String description = null;
+        Elements contentCandidates = doc
+                .select("main, article, #about, #description, .about-section, .description-section, .post-content");
+
+        if (!contentCandidates.isEmpty()) {
+            // Pick the largest text block from candidates
+            for (Element el : contentCandidates) {
+                if (el.text().length() > 200) {
+                    description = el.html(); // Keep HTML structure
+                    break;
                 }
             }
+        }
 
-            if (description != null) {
-                event.setDescription(description);
-                System.out.println("   [Deep Scrape] Found description (length: " + description.length() + ")");
-            } else {
-                System.out.println("   [Deep Scrape] ⚠️ No description found for " + event.getTitle());
+        // --- Tier 3: Body Fallback (If Tier 2 failed) ---
+        if (description == null && bodyFallback) {
+            Element body = doc.body();
+            if (body != null) {
+                // limit to first 2000 chars roughly to avoid massive generic footers
+                String text = body.html();
+                // Basic heuristic: find first significant block
+                description = text.length() > 3000 ? text.substring(0, 3000) + "..." : text;
             }
+        }
 
+        if (description != null) {
+            event.setDescription(description);
+            SAMPLER.at(log, Level.DEBUG, "external.description").addKeyValue("length", description.length())
+                    .log("Found external description");
+            return true;
+        }
+        if (bodyFallback)
+            SAMPLER.at(log, Level.DEBUG, "external.description").addKeyValue("title", event.getTitle())
+                    .log("No external description found");
+        return false;
+    }
+
+    /**
+     * Plain HTTP fetch through the shared page fetcher (rate limited, and
+     * revalidated against the disk cache).
+     *
+     * @return the parsed page, or null if it could not be fetched
+     */
+    private Document fetchStatic(String url) {
+        try {
+            PageFetcher.PageResponse page = pageFetcher.fetch(url);
+            if (!page.isOk())
+                return null;
+            return Jsoup.parse(page.body(), page.uri().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         } catch (Exception e) {
-            System.err.println("Failed to deep scrape " + event.getUrl() + ": " + e.getMessage());
+            return null;
         }
     }
 
-    private String getMetaContent(Document doc, String... attributes) {
+    static String getMetaContent(Document doc, String... attributes) {
         for (String attr : attributes) {
             Element meta = doc.selectFirst("meta[property=" + attr + "], meta[name=" + attr + "]");
             if (meta != null && meta.hasAttr("content")) {
@@ -339,17 +469,35 @@ public class ScraperServiceImpl implements ScraperService {
     private void fetchDevpostDetails(Event event, WebDriver driver) {
         if (event.getUrl() == null)
             return;
+        long start = System.nanoTime();
+        String outcome = scrapeDevpostDetails(event, driver);
+        ScrapeMetrics.record("deep", "devpost", outcome, System.nanoTime() - start);
+    }
+
+    /**
+     * @return how the details were obtained: "http", "browser", or "error" /
+     *         "cancelled"
+     */
+    private String scrapeDevpostDetails(Event event, WebDriver driver) {
+        // Challenge pages are server-rendered: a cached/304 HTTP fetch is enough
+        // whenever the description is in the static HTML
+        Document cachedDoc = fetchStatic(event.getUrl());
+        if (Thread.currentThread().isInterrupted())
+            return "cancelled";
+        if (cachedDoc != null && applyDevpostDetails(event, cachedDoc))
+            return "http";
 
         try {
-            System.out.println("   [Devpost Deep Scrape] Visiting: " + event.getUrl());
-            driver.get(event.getUrl());
-            Thread.sleep(2000);
+            SAMPLER.at(log, Level.DEBUG, "devpost.detail.visit").addKeyValue("url", event.getUrl())
+                    .log("Rendering Devpost detail page");
+            navigate(driver, event.getUrl());
+            readiness.await(driver, "devpost-detail",
+                    readiness.selectorPresent(DEVPOST_DESCRIPTION).or(readiness.networkIdle()));
 
             try {
                 // Description
                 try {
-                    WebElement descEl = driver.findElement(By.cssSelector(
-                            "#challenge-description, .challenge-description, #challenge-overview, .content-section"));
+                    WebElement descEl = driver.findElement(By.cssSelector(DEVPOST_DESCRIPTION));
                     event.setDescription(descEl.getAttribute("innerHTML"));
                 } catch (Exception ignored) {
                 }
@@ -368,223 +516,342 @@ public class ScraperServiceImpl implements ScraperService {
                 } catch (Exception ignored) {
                 }
 
-                System.out.println("   [Devpost Deep Scrape] Data extracted for " + event.getTitle());
+                SAMPLER.at(log, Level.DEBUG, "devpost.detail").addKeyValue("title", event.getTitle())
+                        .addKeyValue("via", "browser").log("Extracted Devpost details");
 
             } catch (Exception e) {
-                System.out.println("   [Devpost Deep Scrape] Failed to extract details: " + e.getMessage());
+                SAMPLER.at(log, Level.WARN, "devpost.detail.error").addKeyValue("url", event.getUrl())
+                        .addKeyValue("error", e.getMessage()).log("Could not extract Devpost details");
+                return ScrapeMetrics.ERROR;
             }
+            return "browser";
         } catch (Exception e) {
-            System.err.println("   [Devpost Deep Scrape] Navigation failed: " + e.getMessage());
+            SAMPLER.at(log, Level.WARN, "devpost.detail.error").addKeyValue("url", event.getUrl())
+                    .addKeyValue("error", e.getMessage()).log("Devpost detail navigation failed");
+            return ScrapeMetrics.ERROR;
         }
     }
 
-    private Event parseDevpostEvent(WebElement tile, WebDriver driver) {
-        try {
-            Event event = new Event();
+    /**
+     * Hash of what a listing card shows. Same fingerprint as the last crawl
+     * means the detail page does not need to be scraped again.
+     */
+    private static String listingFingerprint(Event event) {
+        return EventKeys.fingerprint(event.getTitle(), event.getDate(), event.getLocation(), event.getImageUrl());
+    }
 
-            // Extract title with retry for StaleElement
-            int retries = 0;
-            while (retries < 3) {
-                try {
-                    event.setTitle(tile.findElement(By.cssSelector(".title, h3, .challenge-name")).getText().trim());
-                    break;
-                } catch (Exception e) {
-                    if (e instanceof StaleElementReferenceException || e.getMessage().contains("stale element")) {
-                        retries++;
-                        if (retries == 3) {
-                            System.err.println("⚠️  [DEVPOST] Stale element for title after 3 retries");
-                            event.setTitle("Unknown");
-                        }
-                    } else {
-                        System.err.println("⚠️  [DEVPOST] Could not extract title: " + e.getMessage());
-                        event.setTitle("Unknown");
-                        break;
-                    }
-                }
-            }
+    private boolean applyDevpostDetails(Event event, Document doc) {
+        Element descEl = doc.selectFirst(DEVPOST_DESCRIPTION);
+        if (descEl == null)
+            return false;
+        event.setDescription(descEl.html());
 
-            // Extract URL with retry
-            retries = 0;
-            while (retries < 3) {
-                try {
-                    event.setUrl(tile.findElement(By.cssSelector("a")).getAttribute("href"));
-                    break;
-                } catch (Exception e) {
-                    if (e instanceof StaleElementReferenceException || e.getMessage().contains("stale element")) {
-                        retries++;
-                    } else {
-                        System.err.println("⚠️  [DEVPOST] Could not extract URL");
-                        break;
-                    }
-                }
-            }
+        Element prizesEl = doc.selectFirst("#prizes, .prizes");
+        if (prizesEl != null)
+            event.setRequirements(prizesEl.html()); // Storing prizes in requirements
+
+        Element criteriaEl = doc.selectFirst("#judging-criteria, .judging-criteria");
+        if (criteriaEl != null)
+            event.setJudgingCriteria(criteriaEl.html());
+
+        SAMPLER.at(log, Level.DEBUG, "devpost.detail").addKeyValue("title", event.getTitle())
+                .addKeyValue("via", "http").log("Extracted Devpost details");
+        return true;
+    }
+
+    /**
+     * Deep scrape a batch of Devpost events over up to
+     * {@code deepScrapeParallelism} browser sessions. The caller's driver always
+     * takes part; extra sessions are only used when the pool can hand them out
+     * without waiting, so a busy pool degrades to the serial behaviour.
+     * {@code onDone} is called once per event in completion order, never
+     * concurrently.
+     *
+     * Helpers run on virtual threads scoped to this call: the method does not
+     * return before they finish, and interrupting the caller (e.g. an SSE
+     * client went away) cancels them.
+     */
+    private void deepScrapeDevpost(List<Event> events, WebDriver driver, Consumer<Event> onDone)
+            throws InterruptedException {
+        if (events.isEmpty())
+            return;
 
-            // Extract location
+        Queue<Event> queue = new ConcurrentLinkedQueue<>();
+        // A lock rather than synchronized: onDone may block on I/O, which would
+        // pin the carrier thread inside a synchronized block
+        ReentrantLock emitLock = new ReentrantLock();
+        Consumer<Event> emit = event -> {
+            emitLock.lock();
             try {
-                event.setLocation(
-                        tile.findElement(By.cssSelector(".location, .info, .challenge-location")).getText().trim());
-            } catch (Exception e) {
-                // Location is optional
+                onDone.accept(event);
+            } finally {
+                emitLock.unlock();
+            }
+        };
+
+        // Listing unchanged since the last crawl: reuse the details we already have
+        int reused = 0;
+        for (Event event : events) {
+            if (eventStore.reuseUnchanged(event)) {
+                emit.accept(event);
+                reused++;
+            } else {
+                queue.add(event);
             }
+        }
+        if (reused > 0)
+            log.debug("{} unchanged Devpost event(s), reusing details", reused);
+        if (queue.isEmpty())
+            return;
 
-            // Extract date
-            try {
-                event.setDate(tile.findElement(By.cssSelector(".date, .challenge-date, time")).getText().trim());
-            } catch (Exception e) {
-                // Date is optional
+        int helpers = Math.min(deepScrapeParallelism, queue.size()) - 1;
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < helpers; i++) {
+                futures.add(scope.submit(() -> {
+                    WebDriver helper = driverPool.tryBorrow();
+                    if (helper == null)
+                        return;
+                    try {
+                        drainDevpostDetails(queue, helper, emit);
+                    } finally {
+                        driverPool.release(helper);
+                    }
+                }));
             }
 
-            // Extract image
             try {
-                WebElement img = tile.findElement(By.cssSelector("img"));
-                String imgSrc = img.getAttribute("src");
-                if (imgSrc != null && !imgSrc.isEmpty()) {
-                    event.setImageUrl(imgSrc);
+                drainDevpostDetails(queue, driver, emit);
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        log.warn("Devpost deep scrape worker failed", e.getCause());
+                    }
                 }
-            } catch (Exception e) {
-                System.err.println("⚠️  [DEVPOST] Could not extract image for: " + event.getTitle());
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
             }
+        }
+        if (Thread.currentThread().isInterrupted())
+            throw new InterruptedException("Deep scrape cancelled");
+    }
+
+    private void drainDevpostDetails(Queue<Event> queue, WebDriver driver, Consumer<Event> emit) {
+        Event event;
+        while ((event = queue.poll()) != null && !Thread.currentThread().isInterrupted()) {
+            fetchDevpostDetails(event, driver); // Visits URL, fills description, prizes, etc.
+            emit.accept(event);
+        }
+    }
+
+    /**
+     * Elements matching {@code css} in one snapshot of the rendered page: a
+     * single WebDriver round trip, however many elements and fields are read
+     * from it afterwards, and nothing in it can go stale.
+     *
+     * @param pageUrl the URL navigated to, used to resolve relative links
+     */
+    private static Elements snapshot(WebDriver driver, String pageUrl, String css) {
+        return Jsoup.parse(driver.getPageSource(), pageUrl).select(css);
+    }
 
-            // Deep scrape logic moved to fetchDevpostDetails to avoid
-            // StaleElementReferenceException
-            // if (event.getUrl() != null) { ... }
+    private Event parseDevpostEvent(Element tile) {
+        long start = System.nanoTime();
+        Event event = parseDevpostTile(tile);
+        ScrapeMetrics.record("parse", "devpost", event != null ? ScrapeMetrics.SUCCESS : ScrapeMetrics.ERROR,
+                System.nanoTime() - start);
+        return event;
+    }
+
+    /** One listing tile from a page snapshot (see {@link #snapshot}). */
+    static Event parseDevpostTile(Element tile) {
+        try {
+            Event event = new Event();
+
+            Element title = tile.selectFirst(".title, h3, .challenge-name");
+            event.setTitle(title != null ? title.text().trim() : "Unknown");
+
+            Element link = tile.selectFirst("a[href]");
+            if (link != null)
+                event.setUrl(link.absUrl("href"));
+
+            // Location and date are optional
+            Element location = tile.selectFirst(".location, .info, .challenge-location");
+            if (location != null)
+                event.setLocation(location.text().trim());
+            Element date = tile.selectFirst(".date, .challenge-date, time");
+            if (date != null)
+                event.setDate(date.text().trim());
+
+            Element img = tile.selectFirst("img[src]");
+            if (img != null && !img.absUrl("src").isEmpty())
+                event.setImageUrl(img.absUrl("src"));
 
-            // Generate unique ID from title and URL hash
-            event.setId((long) (event.getTitle() + event.getUrl()).hashCode() & 0x7FFFFFFF);
             event.setProvider("DEVPOST");
             event.setType("HACKATHON");
+            // Stable ID from provider + URL
+            EventKeys.assign(event);
+            event.setFingerprint(listingFingerprint(event));
             return event;
         } catch (Exception e) {
-            System.err.println("❌ [DEVPOST] Failed to parse event tile: " + e.getMessage());
+            SAMPLER.at(log, Level.WARN, "devpost.tile.error").addKeyValue("error", e.getMessage())
+                    .log("Could not parse Devpost tile");
             return null;
         }
+    }
 
+    /**
+     * The fields of one MLH event card, as read by {@link #MLH_CARD_SCRIPT};
+     * null where the card has no such element.
+     */
+    record MlhCard(String title, String url, String location, String date, String imageUrl) {
     }
 
-    @Override
-    public void streamDevpost(String domain, String location, int count, java.util.function.Consumer<Event> onEvent,
+    /**
+     * Every MLH card on the page in a single WebDriver round trip: the script
+     * reads all cards in the browser and returns them as one JSON array.
+     */
+    private List<MlhCard> mlhCards(WebDriver driver) {
+        Object json = ((JavascriptExecutor) driver).executeScript(MLH_CARD_SCRIPT, MLH_CARDS);
+        return parseMlhCards(json instanceof String s ? s : null);
+    }
+
+    static List<MlhCard> parseMlhCards(String json) {
+        if (json == null || json.isBlank())
+            return List.of();
+        MlhCard[] cards = GSON.fromJson(json, MlhCard[].class);
+        return cards == null ? List.of() : Arrays.asList(cards);
+    }
+
+    /** @return the event, or null for a card without a name */
+    static Event toMlhEvent(MlhCard card) {
+        if (card == null || card.title() == null || card.title().isBlank())
+            return null;
+        Event event = new Event();
+        event.setTitle(card.title());
+        event.setUrl(card.url());
+        event.setLocation(card.location());
+        event.setDate(card.date());
+        event.setImageUrl(card.imageUrl());
+        event.setProvider("MLH");
+        event.setType("HACKATHON");
+        // Stable ID from provider + URL
+        EventKeys.assign(event);
+        event.setFingerprint(listingFingerprint(event));
+        return event;
+    }
+
+    private void fetchDevpostStream(String domain, String location, int count, Consumer<Event> onEvent,
             Runnable onComplete) {
-        WebDriver driver = createDriver();
+        if (devpostApiEnabled) {
+            AtomicInteger emitted = new AtomicInteger();
+            try {
+                devpostApi.fetch(domain, location, count, event -> {
+                    onEvent.accept(event);
+                    emitted.incrementAndGet();
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Devpost API stream failed: {}", e.getMessage());
+            }
+            // Only fall back when nothing went out, so the client never sees duplicates
+            if (emitted.get() > 0 || Thread.currentThread().isInterrupted()) {
+                onComplete.run();
+                return;
+            }
+            log.warn("Devpost API stream emitted nothing, falling back to browser scrape");
+        }
+        streamDevpostWithBrowser(domain, location, count, onEvent, onComplete);
+    }
+
+    private void streamDevpostWithBrowser(String domain, String location, int count, Consumer<Event> onEvent,
+            Runnable onComplete) {
+        WebDriver driver = driverPool.borrow();
 
         try {
-            System.out.println("🔍 [DEVPOST SCRAPER STREAM] Starting");
+            logStart("devpost", domain, location, count);
             int page = 1;
             int totalEmitted = 0;
 
             while (totalEmitted < count) {
-                String searchUrl = DEVPOST_URL + "?search=" + (domain != null ? domain : "") + "&page=" + page;
-                driver.get(searchUrl);
-                Thread.sleep(3000);
+                String searchUrl = devpostSearchUrl(domain, page);
+                navigate(driver, searchUrl);
+                readiness.await(driver, "devpost-listing", readiness.countStable(DEVPOST_TILES));
 
-                List<WebElement> tiles = driver.findElements(By.cssSelector(".challenge-listing, .hackathon-tile"));
+                Elements tiles = snapshot(driver, searchUrl, DEVPOST_TILES);
                 if (tiles.isEmpty())
                     break;
 
                 // 1. First Pass: Collect basic info
                 List<Event> pageEvents = new ArrayList<>();
-                for (WebElement tile : tiles) {
-                    Event event = parseDevpostEvent(tile, driver);
-                    if (event != null) {
-                        if (location != null && !location.isBlank()) {
-                            if (event.getLocation() == null
-                                    || !event.getLocation().toLowerCase().contains(location.toLowerCase())) {
-                                continue;
-                            }
-                        }
+                for (Element tile : tiles) {
+                    Event event = parseDevpostEvent(tile);
+                    if (event != null && EventMatcher.matchesLocation(event.getLocation(), location)) {
                         pageEvents.add(event);
                     }
                 }
 
-                // 2. Second Pass: Deep Scrape & Emit
-                for (Event event : pageEvents) {
-                    if (totalEmitted >= count)
-                        break;
-                    fetchDevpostDetails(event, driver);
-                    onEvent.accept(event); // Emit immediately
-                    totalEmitted++;
-                }
+                // 2. Second Pass: Deep Scrape & Emit in completion order
+                List<Event> batch = pageEvents.subList(0, Math.min(pageEvents.size(), count - totalEmitted));
+                deepScrapeDevpost(batch, driver, onEvent);
+                totalEmitted += batch.size();
 
                 page++;
             }
         } catch (Exception e) {
-            System.err.println("Error streaming Devpost: " + e.getMessage());
+            log.error("Devpost browser stream failed", e);
         } finally {
-            driver.quit();
+            driverPool.release(driver);
             onComplete.run();
         }
     }
 
-    @Override
-    public void streamMlh(String domain, String location, int count, java.util.function.Consumer<Event> onEvent,
+    private void streamMlhWithBrowser(String domain, String location, int count, Consumer<Event> onEvent,
             Runnable onComplete) {
-        WebDriver driver = createDriver();
+        WebDriver driver = driverPool.borrow();
 
         try {
-            System.out.println("🔍 [MLH SCRAPER STREAM] Starting");
+            logStart("mlh", domain, location, count);
             driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(60));
-            driver.get(MLH_URL);
-            Thread.sleep(3000);
+            navigate(driver, mlhUrl);
+            readiness.await(driver, "mlh-listing", readiness.countStable(MLH_CARDS));
 
-            List<WebElement> cards = driver.findElements(By.cssSelector(".event-wrapper"));
+            List<MlhCard> cards = mlhCards(driver);
             int emitted = 0;
 
-            for (WebElement card : cards) {
+            for (MlhCard card : cards) {
                 if (emitted >= count)
                     break;
 
-                try {
-                    // Extract data (Simplified version of scrapeMlh internal logic)
-                    String title = card.findElement(By.cssSelector(".event-name")).getText().trim();
-
-                    // Filter Domain
-                    if (domain != null && !domain.isBlank() && !title.toLowerCase().contains(domain.toLowerCase()))
-                        continue;
-
-                    // Extract other fields
-                    Event event = new Event();
-                    event.setTitle(title);
-                    event.setUrl(card.findElement(By.cssSelector("a.event-link")).getAttribute("href"));
-                    try {
-                        event.setLocation(card.findElement(By.cssSelector(".event-location")).getText().trim());
-                    } catch (Exception e) {
-                    }
-                    try {
-                        event.setDate(card.findElement(By.cssSelector(".event-date")).getText().trim());
-                    } catch (Exception e) {
-                    }
-                    try {
-                        event.setImageUrl(card.findElement(By.cssSelector(".image-wrap img")).getAttribute("src"));
-                    } catch (Exception e) {
-                    }
-
-                    event.setId((long) (title + event.getUrl()).hashCode() & 0x7FFFFFFF);
-                    event.setProvider("MLH");
-                    event.setType("HACKATHON");
-
-                    // Filter Location
-                    if (location != null && !location.isBlank()) {
-                        String lowerLoc = event.getLocation().toLowerCase();
-                        if (!lowerLoc.contains(location.toLowerCase()) && !lowerLoc.contains("online")
-                                && !lowerLoc.contains("remote")) {
-                            continue;
-                        }
-                    }
+                long parseStart = System.nanoTime();
+                Event event = toMlhEvent(card);
+                if (event == null) {
+                    ScrapeMetrics.record("parse", "mlh", ScrapeMetrics.ERROR, System.nanoTime() - parseStart);
+                    continue;
+                }
 
-                    // Optional: Deep scrape here if needed (fetchExternalDetails)
-                    // fetchExternalDetails(event, driver);
+                // Same domain/location rules as scrapeMlh and the event index
+                boolean matched = EventMatcher.matches(event, domain, location);
+                ScrapeMetrics.record("parse", "mlh", matched ? ScrapeMetrics.SUCCESS : "filtered",
+                        System.nanoTime() - parseStart);
+                if (!matched) {
+                    continue;
+                }
 
-                    onEvent.accept(event);
-                    emitted++;
+                // Optional: Deep scrape here if needed (fetchExternalDetails)
+                // fetchExternalDetails(event, driver);
 
-                } catch (Exception e) {
-                    System.err.println("Error parsing MLH card: " + e.getMessage());
-                }
+                onEvent.accept(event);
+                emitted++;
             }
 
         } catch (Exception e) {
-            System.err.println("Error streaming MLH: " + e.getMessage());
+            log.error("MLH browser stream failed", e);
         } finally {
-            driver.quit();
+            driverPool.release(driver);
             onComplete.run();
         }
     }
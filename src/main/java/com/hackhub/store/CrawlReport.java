@@ -0,0 +1,13 @@
+package com.hackhub.store;
+
+/**
+ * What a crawl changed for one provider, by listing fingerprint: events seen
+ * for the first time, with a different fingerprint, with the same one, and
+ * no longer listed.
+ */
+public record CrawlReport(String provider, int added, int changed, int unchanged, int removed) {
+
+    public String summary() {
+        return added + " new, " + changed + " changed, " + unchanged + " unchanged, " + removed + " removed";
+    }
+}
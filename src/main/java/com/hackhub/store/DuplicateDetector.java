@@ -0,0 +1,270 @@
+package com.hackhub.store;
+
+import com.hackhub.model.Event;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the same hackathon listed by different providers (e.g. on both
+ * Devpost and MLH) by natural key.
+ *
+ * Titles are normalized and cut into character shingles, summarised as a
+ * MinHash signature and bucketed by LSH bands, so finding candidates for an
+ * event only looks at the events sharing a band with it, not the whole
+ * corpus. A candidate counts as a duplicate when the estimated title
+ * similarity is high enough and the start dates and locations agree.
+ *
+ * Not thread-safe; {@link EventStore} guards it with its read/write lock.
+ */
+public class DuplicateDetector {
+
+    private static final int SHINGLE = 3;
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int HASHES = BANDS * ROWS;
+    private static final double MIN_SIMILARITY = 0.6;
+    private static final int MAX_DAY_DRIFT = 3;
+    // Leap year standing in when neither date names its year, so Feb 29 exists
+    private static final int ANY_YEAR = 2000;
+
+    // Words that say nothing about which event it is
+    private static final Set<String> FILLER = Set.of("hackathon", "hackathons", "the", "annual", "edition");
+    private static final Pattern YEAR = Pattern.compile("\\b(19|20)\\d{2}\\b");
+    private static final Pattern NON_ALNUM = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern MONTH_DAY = Pattern.compile(
+            "\\b(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec)[a-z]*\\.?\\s*(\\d{1,2})?(?!\\d)");
+    private static final String MONTHS = "janfebmaraprmayjunjulaugsepoctnovdec";
+
+    private static final long[] SEEDS = new long[HASHES];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < HASHES; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<Long, Set<String>> bands = new HashMap<>();
+    private final Map<String, Set<String>> duplicates = new HashMap<>();
+
+    /**
+     * Index an event, replacing what was indexed for its key before.
+     *
+     * @return natural keys of the other providers' events it duplicates
+     */
+    public Set<String> add(Event event) {
+        String key = event.getNaturalKey();
+        remove(key);
+        Set<String> shingles = shingles(event.getTitle());
+        if (shingles.isEmpty())
+            return Collections.emptySet();
+
+        Entry entry = new Entry(event.getProvider(), signature(shingles), start(event.getDate()),
+                EventMatcher.locationBuckets(event.getLocation()));
+        Set<String> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<String> bucket = bands.computeIfAbsent(bandKey(entry.signature, band), k -> new HashSet<>());
+            candidates.addAll(bucket);
+            bucket.add(key);
+        }
+        entries.put(key, entry);
+
+        Set<String> found = new LinkedHashSet<>();
+        for (String candidate : candidates) {
+            Entry other = entries.get(candidate);
+            if (isDuplicate(entry, other)) {
+                found.add(candidate);
+                duplicates.computeIfAbsent(key, k -> new HashSet<>()).add(candidate);
+                duplicates.computeIfAbsent(candidate, k -> new HashSet<>()).add(key);
+            }
+        }
+        return found;
+    }
+
+    public void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null)
+            return;
+        for (int band = 0; band < BANDS; band++) {
+            long bandKey = bandKey(entry.signature, band);
+            Set<String> bucket = bands.get(bandKey);
+            if (bucket != null && bucket.remove(key) && bucket.isEmpty())
+                bands.remove(bandKey);
+        }
+        Set<String> linked = duplicates.remove(key);
+        if (linked != null) {
+            for (String other : linked) {
+                Set<String> back = duplicates.get(other);
+                if (back != null && back.remove(key) && back.isEmpty())
+                    duplicates.remove(other);
+            }
+        }
+    }
+
+    /** Natural keys of the events listed elsewhere as the same hackathon. */
+    public Set<String> duplicatesOf(String key) {
+        return duplicates.getOrDefault(key, Collections.emptySet());
+    }
+
+    /** Number of events with at least one cross-provider duplicate. */
+    public int linkedCount() {
+        return duplicates.size();
+    }
+
+    private static boolean isDuplicate(Entry a, Entry b) {
+        if (a.provider == null || a.provider.equals(b.provider))
+            return false;
+        return similarity(a.signature, b.signature) >= MIN_SIMILARITY
+                && datesAgree(a.start, b.start)
+                && locationsAgree(a.locationBuckets, b.locationBuckets);
+    }
+
+    /** Share of equal MinHash rows, an estimate of the shingle Jaccard similarity. */
+    static double similarity(long[] a, long[] b) {
+        int same = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i])
+                same++;
+        }
+        return (double) same / HASHES;
+    }
+
+    /**
+     * Unknown dates agree with anything; otherwise start within a few days.
+     * A date without a year (MLH lists none) takes the other one's year, or
+     * the year before or after it, whichever is closest.
+     */
+    static boolean datesAgree(Start a, Start b) {
+        if (a == null || b == null)
+            return true;
+        if (a.year() > 0 && b.year() > 0)
+            return Math.abs(a.epochDay(a.year()) - b.epochDay(b.year())) <= MAX_DAY_DRIFT;
+        Start dated = a.year() > 0 ? a : b;
+        Start undated = dated == a ? b : a;
+        int year = dated.year() > 0 ? dated.year() : ANY_YEAR;
+        long day = dated.epochDay(year);
+        for (int y = year - 1; y <= year + 1; y++) {
+            if (Math.abs(undated.epochDay(y) - day) <= MAX_DAY_DRIFT)
+                return true;
+        }
+        return false;
+    }
+
+    /** Empty locations agree with anything; otherwise both remote, or a shared place term. */
+    private static boolean locationsAgree(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty())
+            return true;
+        boolean remoteA = a.contains(EventMatcher.REMOTE);
+        boolean remoteB = b.contains(EventMatcher.REMOTE);
+        if (remoteA || remoteB)
+            return remoteA == remoteB;
+        for (String bucket : a) {
+            if (b.contains(bucket))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Character shingles of the title without accents, punctuation, years
+     * and filler words: "HackMIT 2026" and "HackMIT Hackathon" shingle alike.
+     */
+    static Set<String> shingles(String title) {
+        Set<String> out = new HashSet<>();
+        if (title == null)
+            return out;
+        String plain = MARKS.matcher(Normalizer.normalize(title, Normalizer.Form.NFD)).replaceAll("");
+        plain = YEAR.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        StringBuilder text = new StringBuilder();
+        for (String word : NON_ALNUM.split(plain)) {
+            if (!word.isEmpty() && !FILLER.contains(word)) {
+                if (!text.isEmpty())
+                    text.append(' ');
+                text.append(word);
+            }
+        }
+        if (text.length() <= SHINGLE) {
+            if (!text.isEmpty())
+                out.add(text.toString());
+            return out;
+        }
+        for (int i = 0; i + SHINGLE <= text.length(); i++) {
+            out.add(text.substring(i, i + SHINGLE));
+        }
+        return out;
+    }
+
+    static long[] signature(Set<String> shingles) {
+        long[] signature = new long[HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String shingle : shingles) {
+            long base = shingle.hashCode();
+            for (int i = 0; i < HASHES; i++) {
+                long h = mix(base ^ SEEDS[i]);
+                if (h < signature[i])
+                    signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Start of the first "Mon[th] d" in a scraped date string ("Jan 10 - Feb
+     * 12, 2026", "JAN 16TH - 18TH"), with the first year written after it, or
+     * null if there is none. A month without a day counts as its first day.
+     */
+    static Start start(String date) {
+        if (date == null)
+            return null;
+        String lower = date.toLowerCase(Locale.ROOT);
+        Matcher m = MONTH_DAY.matcher(lower);
+        if (!m.find())
+            return null;
+        int month = MONTHS.indexOf(m.group(1)) / 3 + 1;
+        int day = m.group(2) != null ? Integer.parseInt(m.group(2)) : 1;
+        Matcher year = YEAR.matcher(lower);
+        return new Start(year.find(m.end()) ? Integer.parseInt(year.group()) : 0, month, day);
+    }
+
+    private static long bandKey(long[] signature, int band) {
+        long h = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            h = mix(h * 31 + signature[i]);
+        }
+        return h;
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Entry(String provider, long[] signature, Start start, Set<String> locationBuckets) {
+    }
+
+    /** A start date as scraped; {@code year} is 0 when the listing gives none. */
+    record Start(int year, int month, int day) {
+
+        long epochDay(int inYear) {
+            YearMonth yearMonth = YearMonth.of(inYear, month);
+            return LocalDate.of(inYear, month, Math.max(1, Math.min(day, yearMonth.lengthOfMonth()))).toEpochDay();
+        }
+    }
+}
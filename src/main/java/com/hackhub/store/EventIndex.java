@@ -0,0 +1,108 @@
+package com.hackhub.store;
+
+import com.hackhub.model.Event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index over events by natural key: domain terms, location buckets
+ * (see {@link EventMatcher}) and provider. A query intersects the posting
+ * lists of its terms, smallest first, instead of scanning every event.
+ *
+ * Not thread-safe; {@link EventStore} guards it with a read/write lock.
+ */
+public class EventIndex {
+
+    private static final String PROVIDER_PREFIX = "provider:";
+
+    private final Map<String, Set<String>> termPostings = new HashMap<>();
+    private final Map<String, Set<String>> locationPostings = new HashMap<>();
+    private final Map<String, Set<String>> providerPostings = new HashMap<>();
+
+    // What each key was indexed under, so it can be removed exactly
+    private final Map<String, Indexed> indexed = new HashMap<>();
+
+    public void add(Event event) {
+        String key = event.getNaturalKey();
+        remove(key);
+        Indexed entry = new Indexed(EventMatcher.domainTerms(event),
+                EventMatcher.locationBuckets(event.getLocation()),
+                PROVIDER_PREFIX + event.getProvider());
+        for (String term : entry.terms)
+            termPostings.computeIfAbsent(term, k -> new HashSet<>()).add(key);
+        for (String bucket : entry.buckets)
+            locationPostings.computeIfAbsent(bucket, k -> new HashSet<>()).add(key);
+        providerPostings.computeIfAbsent(entry.provider, k -> new HashSet<>()).add(key);
+        indexed.put(key, entry);
+    }
+
+    public void remove(String key) {
+        Indexed entry = indexed.remove(key);
+        if (entry == null)
+            return;
+        for (String term : entry.terms)
+            unpost(termPostings, term, key);
+        for (String bucket : entry.buckets)
+            unpost(locationPostings, bucket, key);
+        unpost(providerPostings, entry.provider, key);
+    }
+
+    /**
+     * @param provider null for all providers
+     * @return natural keys of events matching every given filter; all keys
+     *         when no filter is given
+     */
+    public Set<String> query(String provider, String domain, String location) {
+        List<Set<String>> lists = new ArrayList<>();
+        if (provider != null)
+            lists.add(postings(providerPostings, PROVIDER_PREFIX + provider));
+        for (String term : EventMatcher.terms(domain))
+            lists.add(postings(termPostings, term));
+
+        Set<String> buckets = EventMatcher.locationBuckets(location);
+        if (buckets.contains(EventMatcher.REMOTE)) {
+            lists.add(postings(locationPostings, EventMatcher.REMOTE));
+        } else {
+            for (String bucket : buckets)
+                lists.add(postings(locationPostings, bucket));
+        }
+
+        if (lists.isEmpty())
+            return new HashSet<>(indexed.keySet());
+
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<String> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    public int size() {
+        return indexed.size();
+    }
+
+    public int termCount() {
+        return termPostings.size();
+    }
+
+    private Set<String> postings(Map<String, Set<String>> index, String term) {
+        return index.getOrDefault(term, Collections.emptySet());
+    }
+
+    private void unpost(Map<String, Set<String>> index, String term, String key) {
+        Set<String> keys = index.get(term);
+        if (keys != null && keys.remove(key) && keys.isEmpty())
+            index.remove(term);
+    }
+
+    private record Indexed(Set<String> terms, Set<String> buckets, String provider) {
+    }
+}
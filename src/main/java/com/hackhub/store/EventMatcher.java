@@ -0,0 +1,88 @@
+package com.hackhub.store;
+
+import com.hackhub.model.Event;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The one definition of how domain and location filters match an event,
+ * shared by the live scrapers and the {@link EventIndex}.
+ *
+ * Domain: every query term must appear as a term of the title, blurb or
+ * description. Location: every query term must appear in the event location,
+ * except that any remote synonym ("online", "worldwide", ...) on either side
+ * maps to the canonical {@link #REMOTE} bucket.
+ */
+public final class EventMatcher {
+
+    /** Canonical location bucket for online events. Not a valid word, so it cannot collide with a term. */
+    public static final String REMOTE = "@remote";
+
+    private static final Set<String> REMOTE_SYNONYMS = Set.of(
+            "remote", "online", "worldwide", "everywhere", "virtual", "anywhere", "digital");
+
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private EventMatcher() {
+    }
+
+    /** Lowercase word terms; HTML tags are dropped. "C++"/"C#" stay intact. */
+    public static Set<String> terms(String text) {
+        Set<String> out = new LinkedHashSet<>();
+        if (text == null || text.isBlank())
+            return out;
+        String plain = text.indexOf('<') >= 0 ? TAGS.matcher(text).replaceAll(" ") : text;
+        for (String token : NON_WORD.split(plain.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty())
+                out.add(token);
+        }
+        return out;
+    }
+
+    /** Terms an event can be found by for a domain query. */
+    public static Set<String> domainTerms(Event event) {
+        Set<String> out = terms(event.getTitle());
+        out.addAll(terms(event.getBlurb()));
+        out.addAll(terms(event.getDescription()));
+        return out;
+    }
+
+    /**
+     * Location buckets for an event location, or for a location filter: its
+     * terms, with every remote synonym folded into {@link #REMOTE}.
+     */
+    public static Set<String> locationBuckets(String location) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String term : terms(location)) {
+            out.add(REMOTE_SYNONYMS.contains(term) ? REMOTE : term);
+        }
+        return out;
+    }
+
+    public static boolean isRemote(String location) {
+        return locationBuckets(location).contains(REMOTE);
+    }
+
+    public static boolean matchesDomain(Event event, String domain) {
+        Set<String> wanted = terms(domain);
+        return wanted.isEmpty() || domainTerms(event).containsAll(wanted);
+    }
+
+    public static boolean matchesLocation(String eventLocation, String filter) {
+        Set<String> wanted = locationBuckets(filter);
+        if (wanted.isEmpty())
+            return true;
+        // "Remote, Worldwide" and "Online" should both just mean REMOTE
+        if (wanted.contains(REMOTE))
+            return isRemote(eventLocation);
+        return locationBuckets(eventLocation).containsAll(wanted);
+    }
+
+    public static boolean matches(Event event, String domain, String location) {
+        return matchesDomain(event, domain) && matchesLocation(event.getLocation(), location);
+    }
+}
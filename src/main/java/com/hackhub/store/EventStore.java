@@ -0,0 +1,342 @@
+package com.hackhub.store;
+
+import com.hackhub.geo.Gazetteer;
+import com.hackhub.geo.GeoPoint;
+import com.hackhub.model.Event;
+import com.hackhub.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory copy of the crawled events, answering read queries without a
+ * scrape. Filled from the database at startup and replaced per provider by
+ * each background crawl. Queries go through an {@link EventIndex}; results
+ * keep the order in which events were first crawled. Locations are resolved
+ * to coordinates by the {@link Gazetteer} as events come in, for "near"
+ * queries over a {@link GeoIndex}; only city-level points are indexed, since
+ * a region or country centroid gives no meaningful distance.
+ */
+@Slf4j
+@Component
+public class EventStore {
+
+    private final EventRepository eventRepository;
+    private final Gazetteer gazetteer;
+    private final long staleAfterMs;
+
+    private final Map<String, Event> events = new HashMap<>();
+    private final Map<String, Long> sequence = new HashMap<>();
+    private final EventIndex index = new EventIndex();
+    private final DuplicateDetector duplicates = new DuplicateDetector();
+    private final GeoIndex geo = new GeoIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nextSequence;
+
+    private final Map<String, Long> lastRefreshed = new ConcurrentHashMap<>();
+
+    public EventStore(EventRepository eventRepository, Gazetteer gazetteer,
+            @Value("${scraper.crawler.stale-after-ms:3600000}") long staleAfterMs) {
+        this.eventRepository = eventRepository;
+        this.gazetteer = gazetteer;
+        this.staleAfterMs = staleAfterMs;
+    }
+
+    /**
+     * Warm the store from the database. Loaded data counts as stale until the
+     * first crawl, since we do not know how old it is.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        try {
+            List<Event> stored = eventRepository.findAll();
+            merge(stored);
+            log.atInfo().addKeyValue("events", stored.size()).log("Event store loaded from database");
+        } catch (Exception e) {
+            log.warn("Could not load events from database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replace everything known for a provider with a fresh crawl result.
+     *
+     * @return how the crawl differs from what was known, by fingerprint
+     */
+    public CrawlReport replaceProvider(String provider, Collection<Event> crawled) {
+        Map<String, Event> fresh = new LinkedHashMap<>();
+        for (Event event : crawled) {
+            fresh.put(event.getNaturalKey(), event);
+        }
+        int added = 0;
+        int changed = 0;
+        int removed = 0;
+        lock.writeLock().lock();
+        try {
+            for (String key : index.query(provider, null, null)) {
+                if (!fresh.containsKey(key)) {
+                    removeLocked(key);
+                    removed++;
+                }
+            }
+            for (Event event : fresh.values()) {
+                Event known = events.get(event.getNaturalKey());
+                if (known == null) {
+                    added++;
+                } else if (!sameFingerprint(known, event)) {
+                    changed++;
+                }
+                putLocked(event);
+            }
+            geo.rebuildIfDirty();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lastRefreshed.put(provider, System.currentTimeMillis());
+        return new CrawlReport(provider, added, changed, fresh.size() - added - changed, removed);
+    }
+
+    /**
+     * If this event is already known with the same listing fingerprint, copy
+     * the fields a detail scrape would fill from the known copy, so the
+     * detail page does not need to be visited again.
+     *
+     * @return true if the details were reused
+     */
+    public boolean reuseUnchanged(Event event) {
+        if (event.getNaturalKey() == null || event.getFingerprint() == null)
+            return false;
+        Event known;
+        lock.readLock().lock();
+        try {
+            known = events.get(event.getNaturalKey());
+        } finally {
+            lock.readLock().unlock();
+        }
+        // Only a deep-scraped copy has something to reuse
+        if (known == null || known.getDescription() == null || !sameFingerprint(known, event))
+            return false;
+        event.setDescription(known.getDescription());
+        if (event.getBlurb() == null || event.getBlurb().isBlank())
+            event.setBlurb(known.getBlurb());
+        if (event.getRequirements() == null)
+            event.setRequirements(known.getRequirements());
+        if (event.getJudges() == null)
+            event.setJudges(known.getJudges());
+        if (event.getJudgingCriteria() == null)
+            event.setJudgingCriteria(known.getJudgingCriteria());
+        return true;
+    }
+
+    private static boolean sameFingerprint(Event known, Event event) {
+        return known.getFingerprint() != null && known.getFingerprint().equals(event.getFingerprint());
+    }
+
+    /**
+     * Add or update events from a live scrape without touching the rest of the
+     * provider's data or its freshness.
+     */
+    public void merge(Collection<Event> scraped) {
+        lock.writeLock().lock();
+        try {
+            for (Event event : scraped) {
+                if (event.getNaturalKey() != null)
+                    putLocked(event);
+            }
+            geo.rebuildIfDirty();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(Event event) {
+        String key = event.getNaturalKey();
+        if (events.put(key, event) == null)
+            sequence.put(key, nextSequence++);
+        index.add(event);
+        duplicates.add(event);
+        GeoPoint point = gazetteer.resolve(event.getLocation());
+        geo.put(key, point != null && point.isPrecise() ? point : null);
+    }
+
+    private void removeLocked(String key) {
+        events.remove(key);
+        sequence.remove(key);
+        index.remove(key);
+        duplicates.remove(key);
+        geo.remove(key);
+    }
+
+    /**
+     * Count a provider as fresh after a complete live scrape was merged in.
+     * Unlike {@link #replaceProvider}, events no longer listed are kept until
+     * the next crawl.
+     */
+    public void markRefreshed(String provider) {
+        lastRefreshed.put(provider, System.currentTimeMillis());
+    }
+
+    public boolean isStale(String provider) {
+        Long refreshed = lastRefreshed.get(provider);
+        return refreshed == null || System.currentTimeMillis() - refreshed > staleAfterMs;
+    }
+
+    /**
+     * @param provider "DEVPOST", "MLH" or null for all providers. Across all
+     *                 providers, an event listed on several of them is
+     *                 returned once (see {@link #canonical}), whichever of its
+     *                 listings matched.
+     */
+    public List<Event> query(String provider, String domain, String location, int count) {
+        lock.readLock().lock();
+        try {
+            List<String> keys = new ArrayList<>(index.query(provider, domain, location));
+            keys.sort(Comparator.comparing(sequence::get));
+            Set<String> seen = new HashSet<>();
+            List<Event> out = new ArrayList<>(Math.min(count, keys.size()));
+            for (int i = 0; i < keys.size() && out.size() < count; i++) {
+                String key = keys.get(i);
+                if (provider != null || duplicates.duplicatesOf(key).isEmpty()) {
+                    // A copy, as in nearest(): callers may annotate what they get
+                    out.add(events.get(key).copy());
+                } else {
+                    String canonicalKey = canonicalKeyLocked(key);
+                    if (seen.add(canonicalKey))
+                        out.add(canonicalLocked(canonicalKey));
+                }
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The merged view of an event and its cross-provider duplicates: the
+     * best-detailed listing (first crawled on a tie), with gaps filled from
+     * the others and their URLs in {@code alsoListedOn}.
+     */
+    public Event canonical(String naturalKey) {
+        lock.readLock().lock();
+        try {
+            if (!events.containsKey(naturalKey))
+                return null;
+            return canonicalLocked(canonicalKeyLocked(naturalKey));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Events within {@code radiusKm} of {@code center}, nearest first, with
+     * {@code distanceKm} set. Events whose location resolved to no known
+     * place (online ones included), or only to a region or country, are
+     * never returned.
+     *
+     * @param provider "DEVPOST", "MLH" or null for all providers, with
+     *                 cross-listed events returned once as in {@link #query}
+     */
+    public List<Event> nearest(String provider, String domain, GeoPoint center, double radiusKm, int count) {
+        lock.readLock().lock();
+        try {
+            Set<String> allowed = provider == null && (domain == null || domain.isBlank())
+                    ? null
+                    : index.query(provider, domain, null);
+            Set<String> seen = new HashSet<>();
+            List<Event> out = new ArrayList<>();
+            for (GeoIndex.Hit hit : geo.within(center, radiusKm)) {
+                if (out.size() >= count)
+                    break;
+                if (allowed != null && !allowed.contains(hit.key()))
+                    continue;
+                Event event;
+                if (provider != null || duplicates.duplicatesOf(hit.key()).isEmpty()) {
+                    event = events.get(hit.key()).copy();
+                } else {
+                    String canonicalKey = canonicalKeyLocked(hit.key());
+                    if (!seen.add(canonicalKey))
+                        continue;
+                    event = canonicalLocked(canonicalKey);
+                }
+                event.setDistanceKm(Math.round(hit.distanceKm() * 10) / 10.0);
+                out.add(event);
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private String canonicalKeyLocked(String key) {
+        String best = key;
+        for (String other : duplicates.duplicatesOf(key)) {
+            if (outranks(other, best))
+                best = other;
+        }
+        return best;
+    }
+
+    private boolean outranks(String a, String b) {
+        boolean detailedA = events.get(a).getDescription() != null;
+        boolean detailedB = events.get(b).getDescription() != null;
+        if (detailedA != detailedB)
+            return detailedA;
+        return sequence.get(a) < sequence.get(b);
+    }
+
+    private Event canonicalLocked(String key) {
+        // A copy: the stored events stay exactly as crawled
+        Event merged = events.get(key).copy();
+        Map<String, String> listed = new LinkedHashMap<>();
+        for (String otherKey : duplicates.duplicatesOf(key)) {
+            Event other = events.get(otherKey);
+            listed.put(other.getProvider(), other.getUrl());
+            if (merged.getDescription() == null)
+                merged.setDescription(other.getDescription());
+            if (merged.getBlurb() == null)
+                merged.setBlurb(other.getBlurb());
+            if (merged.getRequirements() == null)
+                merged.setRequirements(other.getRequirements());
+            if (merged.getJudges() == null)
+                merged.setJudges(other.getJudges());
+            if (merged.getJudgingCriteria() == null)
+                merged.setJudgingCriteria(other.getJudgingCriteria());
+            if (merged.getImageUrl() == null || merged.getImageUrl().isBlank())
+                merged.setImageUrl(other.getImageUrl());
+            if (merged.getLocation() == null || merged.getLocation().isBlank())
+                merged.setLocation(other.getLocation());
+        }
+        merged.setAlsoListedOn(listed);
+        return merged;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("events", events.size());
+            stats.put("indexedTerms", index.termCount());
+            stats.put("crossListed", duplicates.linkedCount());
+            stats.put("geoIndexed", geo.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("lastRefreshed", new LinkedHashMap<>(lastRefreshed));
+        stats.put("staleAfterMs", staleAfterMs);
+        return stats;
+    }
+}
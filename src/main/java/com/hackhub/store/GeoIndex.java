@@ -0,0 +1,123 @@
+package com.hackhub.store;
+
+import com.hackhub.geo.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index over events by natural key: a k-d tree over the points as
+ * unit vectors, so a radius query visits only the branches that can hold a
+ * match and there is no special case at the poles or the antimeridian.
+ *
+ * Writes only mark the tree dirty; {@link #rebuildIfDirty()} rebuilds it
+ * once per batch of writes. Not thread-safe; {@link EventStore} guards it
+ * with its read/write lock.
+ */
+public class GeoIndex {
+
+    private final Map<String, GeoPoint> points = new HashMap<>();
+    private Node root;
+    private boolean dirty;
+
+    public record Hit(String key, GeoPoint point, double distanceKm) {
+    }
+
+    /** Index {@code key} at {@code point}; a null point removes it. */
+    public void put(String key, GeoPoint point) {
+        GeoPoint previous = point == null ? points.remove(key) : points.put(key, point);
+        if (point == null ? previous != null : !point.equals(previous))
+            dirty = true;
+    }
+
+    public void remove(String key) {
+        if (points.remove(key) != null)
+            dirty = true;
+    }
+
+    public void rebuildIfDirty() {
+        if (!dirty)
+            return;
+        List<Node> nodes = new ArrayList<>(points.size());
+        points.forEach((key, point) -> nodes.add(new Node(key, point)));
+        root = build(nodes, 0, nodes.size(), 0);
+        dirty = false;
+    }
+
+    /**
+     * @return keys within {@code radiusKm} of {@code center}, nearest first
+     */
+    public List<Hit> within(GeoPoint center, double radiusKm) {
+        List<Hit> hits = new ArrayList<>();
+        if (root == null || radiusKm < 0)
+            return hits;
+        double[] target = unitVector(center);
+        // Straight-line distance through the globe that matches the arc length
+        double angle = Math.min(radiusKm / GeoPoint.EARTH_RADIUS_KM, Math.PI);
+        double chord = 2 * Math.sin(angle / 2);
+        search(root, target, chord * chord, center, hits);
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    private void search(Node node, double[] target, double maxSquared, GeoPoint center, List<Hit> hits) {
+        if (node == null)
+            return;
+        if (squaredDistance(node.xyz, target) <= maxSquared)
+            hits.add(new Hit(node.key, node.point, center.distanceKm(node.point)));
+        double diff = target[node.axis] - node.xyz[node.axis];
+        Node near = diff < 0 ? node.left : node.right;
+        Node far = diff < 0 ? node.right : node.left;
+        search(near, target, maxSquared, center, hits);
+        if (diff * diff <= maxSquared)
+            search(far, target, maxSquared, center, hits);
+    }
+
+    private static Node build(List<Node> nodes, int from, int to, int depth) {
+        if (from >= to)
+            return null;
+        int axis = depth % 3;
+        nodes.subList(from, to).sort(Comparator.comparingDouble(n -> n.xyz[axis]));
+        int mid = (from + to) >>> 1;
+        Node node = nodes.get(mid);
+        node.axis = axis;
+        node.left = build(nodes, from, mid, depth + 1);
+        node.right = build(nodes, mid + 1, to, depth + 1);
+        return node;
+    }
+
+    private static double[] unitVector(GeoPoint point) {
+        double lat = Math.toRadians(point.lat());
+        double lon = Math.toRadians(point.lon());
+        return new double[] { Math.cos(lat) * Math.cos(lon), Math.cos(lat) * Math.sin(lon), Math.sin(lat) };
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        double dz = a[2] - b[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static final class Node {
+        final String key;
+        final GeoPoint point;
+        final double[] xyz;
+        int axis;
+        Node left;
+        Node right;
+
+        Node(String key, GeoPoint point) {
+            this.key = key;
+            this.point = point;
+            this.xyz = unitVector(point);
+        }
+    }
+}
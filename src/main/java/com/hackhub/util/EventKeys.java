@@ -0,0 +1,123 @@
+package com.hackhub.util;
+
+import com.hackhub.model.Event;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * Stable identity for scraped events.
+ *
+ * The natural key is provider + normalized URL (title as a last resort), so
+ * the same event scraped twice maps to the same row even if its title or
+ * dates change. The numeric id is derived from the natural key, not from the
+ * mutable title.
+ */
+public final class EventKeys {
+
+    private EventKeys() {
+    }
+
+    /** Set {@code naturalKey} and {@code id} on an event whose provider is set. */
+    public static Event assign(Event event) {
+        String key = naturalKey(event.getProvider(), event.getUrl(), event.getTitle());
+        event.setNaturalKey(key);
+        event.setId(idFor(key));
+        return event;
+    }
+
+    public static String naturalKey(String provider, String url, String title) {
+        String p = provider == null ? "" : provider.toUpperCase(Locale.ROOT);
+        String ref = url != null && !url.isBlank() ? normalizeUrl(url) : "title:" + normalizeText(title);
+        return p + "|" + ref;
+    }
+
+    /** Positive 63-bit id from the first 8 bytes of SHA-256 of the key. */
+    public static long idFor(String naturalKey) {
+        return ByteBuffer.wrap(sha256(naturalKey)).getLong() & Long.MAX_VALUE;
+    }
+
+    /**
+     * Lowercase scheme and host, drop the fragment, tracking parameters
+     * ({@code ref}, {@code utm_*}) and the trailing slash, keeping the other
+     * parameters in order: "HTTPS://Foo.devpost.com/?ref=x&id=5#top" ->
+     * "https://foo.devpost.com?id=5".
+     */
+    static String normalizeUrl(String url) {
+        String u = url.trim();
+        int hash = u.indexOf('#');
+        if (hash >= 0)
+            u = u.substring(0, hash);
+        String kept = "";
+        int query = u.indexOf('?');
+        if (query >= 0) {
+            kept = keptParams(u.substring(query + 1));
+            u = u.substring(0, query);
+        }
+        int schemeEnd = u.indexOf("://");
+        int pathStart = schemeEnd >= 0 ? u.indexOf('/', schemeEnd + 3) : -1;
+        if (pathStart < 0) {
+            u = u.toLowerCase(Locale.ROOT);
+        } else {
+            u = u.substring(0, pathStart).toLowerCase(Locale.ROOT) + u.substring(pathStart);
+        }
+        while (u.endsWith("/"))
+            u = u.substring(0, u.length() - 1);
+        return kept.isEmpty() ? u : u + "?" + kept;
+    }
+
+    /** The query parameters that identify a page, in their original order. */
+    private static String keptParams(String query) {
+        StringBuilder kept = new StringBuilder();
+        for (String param : query.split("&")) {
+            if (param.isEmpty())
+                continue;
+            int eq = param.indexOf('=');
+            String name = (eq >= 0 ? param.substring(0, eq) : param).toLowerCase(Locale.ROOT);
+            if (name.equals("ref") || name.startsWith("utm_"))
+                continue;
+            if (kept.length() > 0)
+                kept.append('&');
+            kept.append(param);
+        }
+        return kept.toString();
+    }
+
+    static String normalizeText(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Compact fingerprint of what a listing shows for an event (card title,
+     * date, location, ... or the API's listing fields). Unchanged fingerprint
+     * = nothing worth re-scraping the detail page for.
+     */
+    public static String fingerprint(String... listingFields) {
+        StringBuilder sb = new StringBuilder();
+        for (String field : listingFields) {
+            sb.append(normalizeText(field)).append('\u0000');
+        }
+        return shortHash(sb.toString());
+    }
+
+    public static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Hex of the first 8 bytes of SHA-256, used as a compact content hash. */
+    public static String shortHash(String value) {
+        byte[] digest = sha256(value);
+        StringBuilder sb = new StringBuilder(16);
+        for (int i = 0; i < 8; i++) {
+            sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -27,12 +27,4 @@ public class ScraperUtils {
         Random random = new Random();
         return USER_AGENTS[random.nextInt(USER_AGENTS.length)];
     }
-    
-    public static void sleep(int millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
 }
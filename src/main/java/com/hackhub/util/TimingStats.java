@@ -0,0 +1,52 @@
+package com.hackhub.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free accumulator for simple latency statistics (count, total, max).
+ * Cheap enough to call on every page load or pool borrow.
+ */
+public class TimingStats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final AtomicLong lastNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        lastNanos.set(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getAverageMillis() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : totalNanos.sum() / (double) n / 1_000_000.0;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    public double getLastMillis() {
+        return lastNanos.get() / 1_000_000.0;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("count", getCount());
+        out.put("avgMs", Math.round(getAverageMillis() * 100) / 100.0);
+        out.put("maxMs", Math.round(getMaxMillis() * 100) / 100.0);
+        out.put("lastMs", Math.round(getLastMillis() * 100) / 100.0);
+        return out;
+    }
+}
@@ -1,16 +1,22 @@
 package com.khalid.scraper;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.khalid.scraper.config.ScraperConfig;
+import com.khalid.scraper.http.HttpDiskCache;
 import com.khalid.scraper.model.HackathonDTO;
+import com.khalid.scraper.output.HackathonWriter;
+import com.khalid.scraper.replay.FixtureRecorder;
 import com.khalid.scraper.service.DevpostService;
+import com.khalid.scraper.util.HostRateLimiter;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Main CLI application for scraping hackathons from Devpost.
@@ -22,10 +28,16 @@ import java.util.List;
  * mvn exec:java -Dexec.args="--pages=5"
  * mvn exec:java -Dexec.args="--pages=10 --debug"
  * mvn exec:java -Dexec.args="--output=custom.json --timestamp"
+ * mvn exec:java -Dexec.args="--concurrency=4 --detail-concurrency=8 --rate=5"
+ * mvn exec:java -Dexec.args="--cache-dir=/tmp/devpost-cache"
+ * mvn exec:java -Dexec.args="--format=ndjson --gzip"
+ * mvn exec:java -Dexec.args="--pages=5 --record=fixtures"
  */
 public class DevpostScraper {
 
     private static final String VERSION = "2.0.0";
+    private static final int SAMPLE_SIZE = 3;
+    private static final long PAGE_CACHE_MAX_BYTES = 256L * 1024 * 1024;
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
 
     public static void main(String[] args) {
@@ -36,75 +48,85 @@ public class DevpostScraper {
             ScraperConfig config = ScraperConfig.fromArgs(args);
             config.printConfig();
 
+            // API and challenge pages all live under devpost.com and share one bucket
+            HostRateLimiter.shared().setLimit("devpost.com", config.getRate(),
+                    Math.max(config.getConcurrency(), config.getDetailConcurrency()));
+
             // Initialize service layer
-            DevpostService service = new DevpostService(config.isDebug());
+            HttpDiskCache pageCache = config.getCacheDir() == null ? null
+                    : new HttpDiskCache(Path.of(config.getCacheDir()), PAGE_CACHE_MAX_BYTES);
+            if (config.getRecordDir() != null) {
+                FixtureRecorder.shared().start(Path.of(config.getRecordDir()));
+            }
+            DevpostService service = new DevpostService(config.isDebug(), pageCache, config.getApiBaseUrl());
 
-            // Fetch hackathons with retry logic
+            // Fetch hackathons, writing each one out as soon as it is ready
             long startTime = System.currentTimeMillis();
-            List<HackathonDTO> hackathons = service.fetchHackathons(config.getMaxPages());
+            List<HackathonDTO> sample = new ArrayList<>();
+            int total;
+            System.out.println("💾 Streaming to " + config.getOutputFile());
+            try (HackathonWriter writer = new HackathonWriter(Path.of(config.getOutputFile()), config.getFormat(),
+                    config.isGzip())) {
+                Consumer<HackathonDTO> sink = dto -> {
+                    try {
+                        writer.write(dto);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (sample.size() < SAMPLE_SIZE) {
+                        sample.add(dto);
+                    }
+                };
+                if (config.isPipelined()) {
+                    DevpostService.PipelineResult result = service.fetchHackathonsPipelined(config.getMaxPages(),
+                            config.getConcurrency(), config.getDetailConcurrency(), sink);
+                    total = result.emitted();
+                    if (!result.complete()) {
+                        System.out.println("\n⚠️  The crawl stopped early: a listing page failed, so later pages are missing.");
+                    }
+                } else {
+                    total = service.fetchHackathons(config.getMaxPages(), sink);
+                }
+            }
             long duration = System.currentTimeMillis() - startTime;
 
-            if (hackathons.isEmpty()) {
+            if (total == 0) {
                 System.out.println("\n⚠️  No hackathons found.");
                 return;
             }
 
-            // Save to JSON file
-            saveToJson(hackathons, config.getOutputFile());
-
             // Print summary
-            printSummary(hackathons, config.getOutputFile(), duration);
+            printSummary(total, sample, config.getOutputFile(), duration);
 
         } catch (Exception e) {
             System.err.println("\n❌ Fatal error: " + e.getMessage());
-            if (ScraperConfig.fromArgs(args).isDebug()) {
+            // Not ScraperConfig.fromArgs: the arguments may be what failed
+            if (Arrays.asList(args).contains("--debug")) {
                 e.printStackTrace();
             }
             System.exit(1);
         }
     }
 
-    /**
-     * Save hackathons list to JSON file.
-     */
-    private static void saveToJson(List<HackathonDTO> hackathons, String filename) throws IOException {
-        System.out.print("\n💾 Saving to " + filename + "... ");
-
-        Gson gson = new GsonBuilder()
-                .setPrettyPrinting()
-                .registerTypeAdapter(LocalDateTime.class,
-                        (com.google.gson.JsonSerializer<LocalDateTime>) (src, typeOfSrc,
-                                context) -> new com.google.gson.JsonPrimitive(
-                                        src.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)))
-                .create();
-
-        try (FileWriter writer = new FileWriter(filename)) {
-            gson.toJson(hackathons, writer);
-        }
-
-        System.out.println("✓ Done");
-    }
-
     /**
      * Print execution summary.
      */
-    private static void printSummary(List<HackathonDTO> hackathons, String filename, long durationMs) {
+    private static void printSummary(int total, List<HackathonDTO> sample, String filename, long durationMs) {
         System.out.println("\n╔════════════════════════════════════════╗");
         System.out.println("║         SCRAPING COMPLETED             ║");
         System.out.println("╚════════════════════════════════════════╝");
-        System.out.println("📊 Total hackathons: " + hackathons.size());
+        System.out.println("📊 Total hackathons: " + total);
         System.out.println("⏱️  Duration: " + (durationMs / 1000.0) + "s");
+        System.out.printf("⚡ Throughput: %.1f hackathons/s%n", total * 1000.0 / Math.max(1, durationMs));
         System.out.println("📁 Output file: " + filename);
         System.out.println("🕒 Completed at: " + LocalDateTime.now().format(TIME_FORMAT));
 
         // Show sample of results
         System.out.println("\n📋 Sample results:");
-        hackathons.stream()
-                .limit(3)
-                .forEach(h -> System.out.println("  • " + h.getTitle() + " (" + h.getOrganization() + ")"));
+        sample.forEach(h -> System.out.println("  • " + h.getTitle() + " (" + h.getOrganization() + ")"));
 
-        if (hackathons.size() > 3) {
-            System.out.println("  ... and " + (hackathons.size() - 3) + " more");
+        if (total > sample.size()) {
+            System.out.println("  ... and " + (total - sample.size()) + " more");
         }
 
         System.out.println("\n✅ Ready for Spring Boot integration!");
@@ -1,5 +1,8 @@
 package com.khalid.scraper.config;
 
+import com.khalid.scraper.output.HackathonWriter;
+import com.khalid.scraper.service.DevpostService;
+
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -11,8 +14,19 @@ public class ScraperConfig {
     private String outputFile;
     private boolean debug;
     private boolean useTimestamp;
+    private int concurrency;
+    private int detailConcurrency;
+    private double rate;
+    private String cacheDir;
+    private HackathonWriter.Format format;
+    private boolean gzip;
+    private boolean outputSet;
+    private String apiBaseUrl;
+    private String recordDir;
 
     private static final String DEFAULT_OUTPUT = "hackathons.json";
+    private static final double DEFAULT_RATE = 2.0; // requests per second to devpost.com
+    private static final String DEFAULT_CACHE_DIR = ".http-cache";
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
 
     public ScraperConfig() {
@@ -20,6 +34,13 @@ public class ScraperConfig {
         this.outputFile = DEFAULT_OUTPUT;
         this.debug = false;
         this.useTimestamp = false;
+        this.concurrency = 1; // 1 page + 1 detail at a time = sequential mode
+        this.detailConcurrency = 1;
+        this.rate = DEFAULT_RATE;
+        this.cacheDir = DEFAULT_CACHE_DIR;
+        this.format = HackathonWriter.Format.JSON;
+        this.gzip = false;
+        this.apiBaseUrl = DevpostService.DEFAULT_API_BASE_URL;
     }
 
     /**
@@ -33,13 +54,40 @@ public class ScraperConfig {
                 config.maxPages = Integer.parseInt(arg.substring(8));
             } else if (arg.startsWith("--output=")) {
                 config.outputFile = arg.substring(9);
+                config.outputSet = true;
             } else if (arg.equals("--debug")) {
                 config.debug = true;
             } else if (arg.equals("--timestamp")) {
                 config.useTimestamp = true;
+            } else if (arg.startsWith("--concurrency=")) {
+                config.concurrency = Math.max(1, Integer.parseInt(arg.substring(14)));
+            } else if (arg.startsWith("--detail-concurrency=")) {
+                config.detailConcurrency = Math.max(1, Integer.parseInt(arg.substring(21)));
+            } else if (arg.startsWith("--rate=")) {
+                config.rate = Math.max(0.1, Double.parseDouble(arg.substring(7)));
+            } else if (arg.startsWith("--cache-dir=")) {
+                config.cacheDir = arg.substring(12);
+            } else if (arg.equals("--no-cache")) {
+                config.cacheDir = null;
+            } else if (arg.startsWith("--format=")) {
+                config.format = parseFormat(arg.substring(9));
+            } else if (arg.equals("--gzip")) {
+                config.gzip = true;
+            } else if (arg.startsWith("--api-base-url=")) {
+                config.apiBaseUrl = arg.substring(15);
+            } else if (arg.startsWith("--record=")) {
+                config.recordDir = arg.substring(9);
             }
         }
 
+        // Default file name follows the format
+        if (!config.outputSet && config.format == HackathonWriter.Format.NDJSON) {
+            config.outputFile = "hackathons.ndjson";
+        }
+        if (config.gzip && !config.outputFile.endsWith(".gz")) {
+            config.outputFile += ".gz";
+        }
+
         // Apply timestamp to filename if requested
         if (config.useTimestamp) {
             config.outputFile = addTimestampToFilename(config.outputFile);
@@ -48,13 +96,24 @@ public class ScraperConfig {
         return config;
     }
 
+    private static HackathonWriter.Format parseFormat(String value) {
+        try {
+            return HackathonWriter.Format.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown --format '" + value + "' (expected json or ndjson)");
+        }
+    }
+
     private static String addTimestampToFilename(String filename) {
         String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        int dotIndex = filename.lastIndexOf('.');
+        // Keep ".gz" outermost: hackathons_<ts>.json.gz
+        String gz = filename.endsWith(".gz") ? ".gz" : "";
+        String name = filename.substring(0, filename.length() - gz.length());
+        int dotIndex = name.lastIndexOf('.');
         if (dotIndex > 0) {
-            return filename.substring(0, dotIndex) + "_" + timestamp + filename.substring(dotIndex);
+            return name.substring(0, dotIndex) + "_" + timestamp + name.substring(dotIndex) + gz;
         }
-        return filename + "_" + timestamp;
+        return name + "_" + timestamp + gz;
     }
 
     // Getters
@@ -74,11 +133,64 @@ public class ScraperConfig {
         return useTimestamp;
     }
 
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getDetailConcurrency() {
+        return detailConcurrency;
+    }
+
+    /** Request rate (requests per second) to devpost.com, shared by all fetches. */
+    public double getRate() {
+        return rate;
+    }
+
+    public HackathonWriter.Format getFormat() {
+        return format;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    /** Directory of the challenge page cache, or null when disabled. */
+    public String getCacheDir() {
+        return cacheDir;
+    }
+
+    /** Devpost listing API endpoint, e.g. a local stub server. */
+    public String getApiBaseUrl() {
+        return apiBaseUrl;
+    }
+
+    /** Directory to record fetched pages into as replay fixtures, or null. */
+    public String getRecordDir() {
+        return recordDir;
+    }
+
+    /** Pipelined mode is used as soon as any stage may run more than one request at a time. */
+    public boolean isPipelined() {
+        return concurrency > 1 || detailConcurrency > 1;
+    }
+
     public void printConfig() {
         System.out.println("=== Scraper Configuration ===");
         System.out.println("Max Pages: " + (maxPages == 0 ? "All" : maxPages));
-        System.out.println("Output File: " + outputFile);
+        System.out.println("Output File: " + outputFile + " (" + format.name().toLowerCase()
+                + (gzip ? ", gzip" : "") + ")");
         System.out.println("Debug Mode: " + (debug ? "ON" : "OFF"));
+        System.out.println("Rate Limit: " + rate + " req/s");
+        System.out.println("Page Cache: " + (cacheDir == null ? "OFF" : cacheDir));
+        if (!apiBaseUrl.equals(DevpostService.DEFAULT_API_BASE_URL)) {
+            System.out.println("API: " + apiBaseUrl);
+        }
+        if (recordDir != null) {
+            System.out.println("Recording: " + recordDir);
+        }
+        if (isPipelined()) {
+            System.out.println("Pipeline: " + concurrency + " pages / " + detailConcurrency + " details in flight");
+        }
         System.out.println("============================\n");
     }
 }
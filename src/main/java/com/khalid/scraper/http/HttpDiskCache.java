@@ -0,0 +1,252 @@
+package com.khalid.scraper.http;
+
+import com.khalid.scraper.util.LogSampler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Disk-backed store of page bodies and their validators (ETag,
+ * Last-Modified), so a later crawl can revalidate a page with a conditional
+ * request instead of downloading it again.
+ *
+ * One gzip file per URL, named after the SHA-256 of the URL. Once the
+ * directory holds more than {@code maxBytes} (compressed), the least recently
+ * used files are deleted; file modification times carry the LRU order across
+ * restarts.
+ */
+public class HttpDiskCache {
+    private static final Logger log = LoggerFactory.getLogger(HttpDiskCache.class);
+    // Per-page failures are rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
+    private static final String SUFFIX = ".gz";
+
+    private final Path dir;
+    private final long maxBytes;
+
+    // File key -> compressed size, in access order
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public HttpDiskCache(Path dir, long maxBytes) throws IOException {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(dir);
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(HttpDiskCache::lastModified))
+                    .toList();
+        }
+        lock.lock();
+        try {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long size = Files.size(file);
+                sizes.put(name.substring(0, name.length() - SUFFIX.length()), size);
+                totalBytes += size;
+            }
+            evictLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A stored response. {@link #validator()} is what the server will compare
+     * against: the ETag if there was one, otherwise Last-Modified.
+     */
+    public record Entry(String url, String etag, String lastModified, String body) {
+        public String validator() {
+            return etag != null ? etag : lastModified;
+        }
+    }
+
+    /**
+     * @return the stored response for {@code url}, or null
+     */
+    public Entry get(String url) {
+        String key = keyFor(url);
+        lock.lock();
+        try {
+            if (sizes.get(key) == null) {
+                misses.increment();
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(fileFor(key)))))) {
+            String storedUrl = in.readUTF();
+            String etag = emptyToNull(in.readUTF());
+            String lastModified = emptyToNull(in.readUTF());
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (!storedUrl.equals(url)) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return new Entry(url, etag, lastModified, body);
+        } catch (IOException e) {
+            // Unreadable or deleted underneath us: forget it
+            remove(key);
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Store a response. Callers should only store responses that carry a
+     * validator, otherwise they can never be revalidated.
+     */
+    public void put(String url, String etag, String lastModified, String body) {
+        String key = keyFor(url);
+        Path file = fileFor(key);
+        try {
+            Path tmp = Files.createTempFile(dir, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))))) {
+                out.writeUTF(url);
+                out.writeUTF(etag == null ? "" : etag);
+                out.writeUTF(lastModified == null ? "" : lastModified);
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long size = Files.size(file);
+
+            lock.lock();
+            try {
+                Long previous = sizes.put(key, size);
+                totalBytes += size - (previous == null ? 0 : previous);
+                stores.increment();
+                evictLocked();
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            SAMPLER.at(log, Level.WARN, "http-cache.store").addKeyValue("url", url)
+                    .addKeyValue("error", e.getMessage()).log("Could not store page in cache");
+        }
+    }
+
+    /**
+     * Mark an entry as just used (e.g. after a 304), so it is evicted last.
+     */
+    public void touch(String url) {
+        String key = keyFor(url);
+        lock.lock();
+        try {
+            if (sizes.get(key) == null)
+                return;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Files.setLastModifiedTime(fileFor(key), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            stats.put("entries", sizes.size());
+            stats.put("bytes", totalBytes);
+        } finally {
+            lock.unlock();
+        }
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("stores", stores.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    private void evictLocked() {
+        Iterator<Map.Entry<String, Long>> eldest = sizes.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            try {
+                Files.deleteIfExists(fileFor(entry.getKey()));
+            } catch (IOException e) {
+                SAMPLER.at(log, Level.WARN, "http-cache.evict").addKeyValue("key", entry.getKey())
+                        .addKeyValue("error", e.getMessage()).log("Could not evict cached page");
+            }
+            totalBytes -= entry.getValue();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(String key) {
+        lock.lock();
+        try {
+            Long size = sizes.remove(key);
+            if (size != null)
+                totalBytes -= size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Path fileFor(String key) {
+        return dir.resolve(key + SUFFIX);
+    }
+
+    private static String keyFor(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
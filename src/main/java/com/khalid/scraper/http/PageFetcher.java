@@ -0,0 +1,121 @@
+package com.khalid.scraper.http;
+
+import com.khalid.scraper.replay.FixtureRecorder;
+import com.khalid.scraper.util.HostRateLimiter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fetches HTML pages over a shared {@link HttpClient}, paced by the
+ * {@link HostRateLimiter}. With an {@link HttpDiskCache}, pages seen before
+ * are requested conditionally (If-None-Match / If-Modified-Since) and a 304
+ * is answered from disk.
+ */
+public class PageFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (HackHub Scraper)";
+
+    private final HttpClient httpClient;
+    private final HttpDiskCache cache;
+    private final Duration timeout;
+    private final HostRateLimiter rateLimiter = HostRateLimiter.shared();
+    private final FixtureRecorder recorder = FixtureRecorder.shared();
+
+    private final LongAdder downloaded = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    /**
+     * @param cache null to always download
+     */
+    public PageFetcher(HttpClient httpClient, HttpDiskCache cache, Duration timeout) {
+        this.httpClient = httpClient;
+        this.cache = cache;
+        this.timeout = timeout;
+    }
+
+    /**
+     * A fetched page. When {@code notModified} is set the body came from the
+     * disk cache after a 304.
+     */
+    public record PageResponse(URI uri, int status, String body, boolean notModified, String validator) {
+        public boolean isOk() {
+            return status == 200 || notModified;
+        }
+    }
+
+    /**
+     * Start fetching {@code url}. Blocks only for a rate-limit permit.
+     *
+     * @throws IllegalArgumentException if {@code url} is not a valid URI
+     */
+    public CompletableFuture<PageResponse> fetchAsync(String url) throws InterruptedException {
+        HttpDiskCache.Entry cached = cache == null ? null : cache.get(url);
+        HttpRequest request = buildRequest(url, cached);
+        rateLimiter.acquire(url);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> toPage(url, response, cached));
+    }
+
+    public PageResponse fetch(String url) throws IOException, InterruptedException {
+        HttpDiskCache.Entry cached = cache == null ? null : cache.get(url);
+        HttpRequest request = buildRequest(url, cached);
+        rateLimiter.acquire(url);
+        return toPage(url, httpClient.send(request, HttpResponse.BodyHandlers.ofString()), cached);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("downloaded", downloaded.sum());
+        stats.put("notModified", notModified.sum());
+        if (cache != null)
+            stats.put("diskCache", cache.getStats());
+        return stats;
+    }
+
+    private HttpRequest buildRequest(String url, HttpDiskCache.Entry cached) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html")
+                .timeout(timeout)
+                .GET();
+        if (cached != null) {
+            if (cached.etag() != null)
+                builder.header("If-None-Match", cached.etag());
+            if (cached.lastModified() != null)
+                builder.header("If-Modified-Since", cached.lastModified());
+        }
+        return builder.build();
+    }
+
+    private PageResponse toPage(String url, HttpResponse<String> response, HttpDiskCache.Entry cached) {
+        if (response.statusCode() == 304 && cached != null) {
+            cache.touch(url);
+            notModified.increment();
+            if (recorder.isRecording())
+                recorder.record(url, 200, "text/html; charset=utf-8", cached.body());
+            return new PageResponse(response.uri(), 304, cached.body(), true, cached.validator());
+        }
+
+        downloaded.increment();
+        if (recorder.isRecording())
+            recorder.record(url, response.statusCode(),
+                    response.headers().firstValue("Content-Type").orElse(null), response.body());
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        if (cache != null && response.statusCode() == 200 && (etag != null || lastModified != null)) {
+            cache.put(url, etag, lastModified, response.body());
+        }
+        return new PageResponse(response.uri(), response.statusCode(), response.body(), false,
+                etag != null ? etag : lastModified);
+    }
+}
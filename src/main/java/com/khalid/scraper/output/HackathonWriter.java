@@ -0,0 +1,94 @@
+package com.khalid.scraper.output;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import com.google.gson.stream.JsonWriter;
+import com.khalid.scraper.model.HackathonDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes hackathons to a file one at a time as they are crawled, so memory
+ * stays flat however many pages are fetched.
+ *
+ * JSON: a pretty-printed array, closed on {@link #close()}.
+ * NDJSON: one compact object per line, flushed after every record, so
+ * everything written before a crash is readable (with {@code --gzip} too:
+ * the stream is sync-flushed).
+ */
+public class HackathonWriter implements AutoCloseable {
+
+    public enum Format {
+        JSON, NDJSON
+    }
+
+    private final Format format;
+    private final Writer out;
+    private final JsonWriter json;
+    private final Gson gson;
+    private int written;
+
+    public HackathonWriter(Path file, Format format, boolean gzip) throws IOException {
+        this.format = format;
+        OutputStream stream = Files.newOutputStream(file);
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, 64 * 1024, true);
+        }
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+        this.gson = new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class,
+                        (JsonSerializer<LocalDateTime>) (src, typeOfSrc, context) -> new JsonPrimitive(
+                                src.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)))
+                .create();
+
+        if (format == Format.JSON) {
+            this.json = gson.newJsonWriter(out);
+            json.setIndent("  ");
+            json.beginArray();
+        } else {
+            this.json = null;
+        }
+    }
+
+    public void write(HackathonDTO dto) throws IOException {
+        if (format == Format.JSON) {
+            gson.toJson(dto, HackathonDTO.class, json);
+        } else {
+            // A fresh JsonWriter per line: NDJSON is a sequence of top-level values
+            JsonWriter line = gson.newJsonWriter(out);
+            gson.toJson(dto, HackathonDTO.class, line);
+            line.flush();
+            out.write('\n');
+            out.flush();
+        }
+        written++;
+    }
+
+    public int getWritten() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (json != null) {
+                json.endArray();
+                json.flush();
+            }
+        } finally {
+            out.close();
+        }
+    }
+}
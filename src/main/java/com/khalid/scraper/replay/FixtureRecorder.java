@@ -0,0 +1,180 @@
+package com.khalid.scraper.replay;
+
+import com.khalid.scraper.util.LogSampler;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Records what the scrapers download (API pages, challenge/detail pages and
+ * browser-rendered listings) as fixtures that {@link StubServer} can replay
+ * offline.
+ *
+ * A fixture directory holds one file per page plus {@value #INDEX}, with one
+ * {@code url, status, content type, file} line per recording; when a URL is
+ * recorded twice the last line wins. Recording is off until
+ * {@link #start(Path)} is called, and a failure to write a fixture never
+ * fails the scrape.
+ */
+public final class FixtureRecorder {
+    private static final Logger log = LoggerFactory.getLogger(FixtureRecorder.class);
+    // Per-page failures are rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
+    public static final String INDEX = "index.tsv";
+
+    private static final FixtureRecorder SHARED = new FixtureRecorder();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Fixture key -> file name, so a page recorded again overwrites its file
+    private final Map<String, String> files = new HashMap<>();
+    private volatile Path dir;
+
+    /**
+     * A recorded response.
+     */
+    public record Fixture(String url, int status, String contentType, Path file) {
+    }
+
+    /** The recorder used by all scrapers in this JVM. */
+    public static FixtureRecorder shared() {
+        return SHARED;
+    }
+
+    /** Record every following page into {@code dir}, added to what is already there. */
+    public void start(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        lock.lock();
+        try {
+            files.clear();
+            load(dir).forEach((key, fixture) -> files.put(key, fixture.file().getFileName().toString()));
+            this.dir = dir;
+        } finally {
+            lock.unlock();
+        }
+        log.atInfo().addKeyValue("dir", dir.toAbsolutePath()).log("Recording fixtures");
+    }
+
+    public void stop() {
+        dir = null;
+    }
+
+    public boolean isRecording() {
+        return dir != null;
+    }
+
+    public int recordedCount() {
+        lock.lock();
+        try {
+            return files.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void record(String url, int status, String contentType, String body) {
+        Path target = dir;
+        if (target == null || url == null || body == null)
+            return;
+        String key = key(url);
+        lock.lock();
+        try {
+            String file = files.computeIfAbsent(key, k -> fileName(files.size() + 1, url, contentType));
+            Files.writeString(target.resolve(file), body, StandardCharsets.UTF_8);
+            try (BufferedWriter index = Files.newBufferedWriter(target.resolve(INDEX), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                index.write(key + "\t" + status + "\t" + (contentType != null ? contentType : "") + "\t" + file);
+                index.newLine();
+            }
+        } catch (IOException e) {
+            SAMPLER.at(log, Level.WARN, "record.error").addKeyValue("url", url)
+                    .addKeyValue("error", e.getMessage()).log("Could not record fixture");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a page as the browser rendered it. Scripts are dropped, so the
+     * replayed page is the DOM the scraper saw rather than an app that would
+     * render itself again against the live site, and links are made absolute
+     * so the stub can point them back at itself.
+     */
+    public void recordRendered(String url, String html) {
+        if (!isRecording() || url == null || html == null)
+            return;
+        Document doc = Jsoup.parse(html, url);
+        doc.select("script").remove();
+        for (Element el : doc.select("a[href], link[href]"))
+            el.attr("href", el.absUrl("href"));
+        for (Element el : doc.select("img[src]"))
+            el.attr("src", el.absUrl("src"));
+        record(url, 200, "text/html; charset=utf-8", doc.outerHtml());
+    }
+
+    /**
+     * @return the fixtures in {@code dir} by key (see {@link #key(String)});
+     *         empty if nothing was recorded there
+     */
+    public static Map<String, Fixture> load(Path dir) throws IOException {
+        Map<String, Fixture> out = new LinkedHashMap<>();
+        Path index = dir.resolve(INDEX);
+        if (!Files.exists(index))
+            return out;
+        List<String> lines = Files.readAllLines(index, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#"))
+                continue;
+            String[] cols = line.split("\t", -1);
+            if (cols.length < 4)
+                throw new IOException("Bad fixture index line: " + line);
+            String contentType = cols[2].isEmpty() ? null : cols[2];
+            out.put(key(cols[0]), new Fixture(cols[0], Integer.parseInt(cols[1]), contentType, dir.resolve(cols[3])));
+        }
+        return out;
+    }
+
+    /**
+     * The URL a fixture is looked up by: lowercase scheme and host, "/" for an
+     * empty path, no fragment. The query is kept as is ("?page=2").
+     */
+    public static String key(String url) {
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getScheme() == null || uri.getRawAuthority() == null)
+                return url.trim();
+            String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+            return uri.getScheme().toLowerCase(Locale.ROOT) + "://" + uri.getRawAuthority().toLowerCase(Locale.ROOT)
+                    + path + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+        } catch (IllegalArgumentException e) {
+            return url.trim();
+        }
+    }
+
+    /** "0003-devpost.com-api-hackathons-page-2.json" */
+    private static String fileName(int n, String url, String contentType) {
+        String slug = url.replaceFirst("^[a-zA-Z]+://", "").replaceAll("[^A-Za-z0-9.]+", "-")
+                .replaceAll("^-+|-+$", "");
+        if (slug.length() > 80)
+            slug = slug.substring(0, 80);
+        String ext = contentType != null && contentType.contains("json") ? "json" : "html";
+        return String.format("%04d-%s.%s", n, slug, ext);
+    }
+}
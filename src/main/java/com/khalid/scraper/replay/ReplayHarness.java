@@ -0,0 +1,52 @@
+package com.khalid.scraper.replay;
+
+import com.khalid.scraper.service.DevpostService;
+import com.khalid.scraper.util.HostRateLimiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end throughput of the Devpost API crawl (listing pages, challenge
+ * page enrichment and parsing) against a {@link StubServer} replaying
+ * recorded fixtures, in events per second.
+ *
+ * Record the fixtures first with a live crawl:
+ * mvn exec:java -Dexec.args="--pages=5 --record=fixtures"
+ *
+ * Then replay them, optionally with latency and injected errors:
+ * mvn exec:java -Dexec.mainClass=com.khalid.scraper.replay.ReplayHarness
+ * -Dexec.args="--fixtures=fixtures --latency-ms=80 --jitter-ms=40 --concurrency=4 --detail-concurrency=8"
+ */
+public class ReplayHarness {
+
+    // The stub is local: only its latency should limit the crawl, not politeness
+    private static final double STUB_RATE = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        ReplayOptions options = ReplayOptions.fromArgs(args);
+        try (StubServer stub = new StubServer(options.fixtures(), 0, options.stubOptions())) {
+            HostRateLimiter.shared().setLimit("127.0.0.1", STUB_RATE, (int) STUB_RATE);
+            String apiUrl = stub.urlFor(ReplayOptions.API_BASE_URL);
+
+            double best = 0;
+            for (int run = 1; run <= options.runs(); run++) {
+                // A fresh service per run: nothing parsed in an earlier run is reused
+                DevpostService service = new DevpostService(false, null, apiUrl);
+                AtomicInteger events = new AtomicInteger();
+                long start = System.nanoTime();
+                if (options.concurrency() > 1 || options.detailConcurrency() > 1) {
+                    service.fetchHackathonsPipelined(options.pages(), options.concurrency(),
+                            options.detailConcurrency(), dto -> events.incrementAndGet());
+                } else {
+                    service.fetchHackathons(options.pages(), dto -> events.incrementAndGet());
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                double rate = events.get() / seconds;
+                best = Math.max(best, rate);
+                System.out.printf("🏁 [REPLAY] Run %d: %d events in %.2fs = %.1f events/s%n", run, events.get(),
+                        seconds, rate);
+            }
+            System.out.printf("🏁 [REPLAY] Best: %.1f events/s, stub %s%n", best, stub.getStats());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.khalid.scraper.replay;
+
+import com.khalid.scraper.service.DevpostService;
+
+import java.nio.file.Path;
+
+/**
+ * Command line options shared by {@link StubServer} and
+ * {@link ReplayHarness}.
+ */
+public record ReplayOptions(Path fixtures, int port, StubServer.Options stubOptions, int pages, int concurrency,
+        int detailConcurrency, int runs) {
+
+    /** Live URLs the scrapers start from, as recorded. */
+    public static final String DEVPOST_URL = "https://devpost.com/hackathons";
+    public static final String MLH_URL = "https://mlh.io/seasons/2026/events";
+    public static final String API_BASE_URL = DevpostService.DEFAULT_API_BASE_URL;
+
+    public static ReplayOptions fromArgs(String[] args) {
+        Path fixtures = Path.of("fixtures");
+        int port = 8089;
+        long latencyMs = 0;
+        long jitterMs = 0;
+        double errorRate = 0;
+        long seed = 42;
+        int pages = 0;
+        int concurrency = 1;
+        int detailConcurrency = 1;
+        int runs = 3;
+
+        for (String arg : args) {
+            if (arg.startsWith("--fixtures=")) {
+                fixtures = Path.of(arg.substring(11));
+            } else if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring(7));
+            } else if (arg.startsWith("--latency-ms=")) {
+                latencyMs = Math.max(0, Long.parseLong(arg.substring(13)));
+            } else if (arg.startsWith("--jitter-ms=")) {
+                jitterMs = Math.max(0, Long.parseLong(arg.substring(12)));
+            } else if (arg.startsWith("--error-rate=")) {
+                errorRate = Math.min(1, Math.max(0, Double.parseDouble(arg.substring(13))));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring(7));
+            } else if (arg.startsWith("--pages=")) {
+                pages = Math.max(0, Integer.parseInt(arg.substring(8)));
+            } else if (arg.startsWith("--concurrency=")) {
+                concurrency = Math.max(1, Integer.parseInt(arg.substring(14)));
+            } else if (arg.startsWith("--detail-concurrency=")) {
+                detailConcurrency = Math.max(1, Integer.parseInt(arg.substring(21)));
+            } else if (arg.startsWith("--runs=")) {
+                runs = Math.max(1, Integer.parseInt(arg.substring(7)));
+            } else {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        return new ReplayOptions(fixtures, port, new StubServer.Options(latencyMs, jitterMs, errorRate, seed), pages,
+                concurrency, detailConcurrency, runs);
+    }
+}
@@ -0,0 +1,204 @@
+package com.khalid.scraper.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Local HTTP server replaying fixtures recorded by {@link FixtureRecorder},
+ * so scrapes can run (and be timed) without the network.
+ *
+ * A recorded URL is served under its host: {@code https://foo.devpost.com/x}
+ * becomes {@code <base>/foo.devpost.com/x}. Links to recorded hosts inside
+ * the bodies are rewritten the same way, so a scrape that starts on the stub
+ * stays on it. Every response can be delayed ({@code latencyMs} plus up to
+ * {@code jitterMs}) and replaced by a 503 with probability
+ * {@code errorRate}; unknown URLs get a 404.
+ *
+ * Usage:
+ * mvn exec:java -Dexec.mainClass=com.khalid.scraper.replay.StubServer
+ * -Dexec.args="--fixtures=fixtures --port=8089 --latency-ms=50 --error-rate=0.02"
+ */
+public class StubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String baseUrl;
+    private final Options options;
+    // Seeded for repeatable runs; shared by the handler threads (Random is thread-safe)
+    private final Random random;
+
+    private final Map<String, FixtureRecorder.Fixture> fixtures;
+    private final Map<String, byte[]> bodies = new HashMap<>();
+    private final Pattern recordedHosts;
+
+    private final LongAdder served = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param errorRate share of requests answered with a 503, 0 to 1
+     */
+    public record Options(long latencyMs, long jitterMs, double errorRate, long seed) {
+        public static final Options NONE = new Options(0, 0, 0, 42);
+    }
+
+    /**
+     * Load the fixtures in {@code dir} and start serving them.
+     *
+     * @param port 0 for any free port
+     */
+    public StubServer(Path dir, int port, Options options) throws IOException {
+        this.options = options;
+        this.random = new Random(options.seed());
+        this.fixtures = FixtureRecorder.load(dir);
+        if (fixtures.isEmpty())
+            throw new IOException("No fixtures in " + dir.toAbsolutePath() + " (missing " + FixtureRecorder.INDEX + ")");
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        // Longest first, so "foo.devpost.com" is not taken for "devpost.com"
+        TreeSet<String> hosts = new TreeSet<>(Comparator.comparingInt(String::length).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        fixtures.values().forEach(f -> hosts.add(hostOf(f.url())));
+        hosts.remove("");
+        if (hosts.isEmpty())
+            throw new IOException("No absolute URLs in " + dir.resolve(FixtureRecorder.INDEX));
+        this.recordedHosts = Pattern.compile("(?:https?:)?//("
+                + hosts.stream().map(Pattern::quote).collect(Collectors.joining("|")) + ")(?![\\w.-])",
+                Pattern.CASE_INSENSITIVE);
+        for (Map.Entry<String, FixtureRecorder.Fixture> entry : fixtures.entrySet()) {
+            String body = Files.readString(entry.getValue().file(), StandardCharsets.UTF_8);
+            bodies.put(entry.getKey(), rewrite(body).getBytes(StandardCharsets.UTF_8));
+        }
+
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        System.out.println("📼 [STUB] Serving " + fixtures.size() + " fixtures at " + baseUrl + " (latency "
+                + options.latencyMs() + "+" + options.jitterMs() + "ms, error rate " + options.errorRate() + ")");
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /** Where the stub serves a recorded URL, e.g. to use as a scraper base URL. */
+    public String urlFor(String recordedUrl) {
+        return rewrite(recordedUrl);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("fixtures", fixtures.size());
+        stats.put("served", served.sum());
+        stats.put("injectedErrors", injectedErrors.sum());
+        stats.put("misses", misses.sum());
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long delay = options.latencyMs()
+                    + (options.jitterMs() > 0 ? random.nextLong(options.jitterMs() + 1) : 0);
+            if (delay > 0)
+                Thread.sleep(delay);
+            served.increment();
+
+            if (options.errorRate() > 0 && random.nextDouble() < options.errorRate()) {
+                injectedErrors.increment();
+                send(exchange, 503, "text/plain", "Injected error".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            String key = lookup(exchange.getRequestURI().getRawPath(), exchange.getRequestURI().getRawQuery());
+            if (key == null) {
+                misses.increment();
+                send(exchange, 404, "text/plain", "No fixture".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            FixtureRecorder.Fixture fixture = fixtures.get(key);
+            send(exchange, fixture.status(), fixture.contentType(), bodies.get(key));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** "/foo.devpost.com/x" + "page=2" -> the key of https://foo.devpost.com/x?page=2 */
+    private String lookup(String path, String query) {
+        String rest = path.startsWith("/") ? path.substring(1) : path;
+        int slash = rest.indexOf('/');
+        String host = slash < 0 ? rest : rest.substring(0, slash);
+        String tail = (slash < 0 ? "/" : rest.substring(slash)) + (query != null ? "?" + query : "");
+        for (String scheme : new String[] { "https://", "http://" }) {
+            String key = FixtureRecorder.key(scheme + host + tail);
+            if (fixtures.containsKey(key))
+                return key;
+        }
+        return null;
+    }
+
+    private String rewrite(String text) {
+        Matcher m = recordedHosts.matcher(text);
+        return m.replaceAll(match -> Matcher.quoteReplacement(
+                baseUrl + "/" + match.group(1).toLowerCase(Locale.ROOT)));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null)
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String hostOf(String url) {
+        int start = url.indexOf("://");
+        if (start < 0)
+            return "";
+        String rest = url.substring(start + 3);
+        int end = rest.indexOf('/');
+        return (end < 0 ? rest : rest.substring(0, end)).toLowerCase(Locale.ROOT);
+    }
+
+    public static void main(String[] args) throws Exception {
+        ReplayOptions parsed = ReplayOptions.fromArgs(args);
+        StubServer stub = new StubServer(parsed.fixtures(), parsed.port(), parsed.stubOptions());
+        System.out.println("Point the app at the stub with:");
+        System.out.println("  scraper.devpost.url=" + stub.urlFor(ReplayOptions.DEVPOST_URL));
+        System.out.println("  scraper.mlh.url=" + stub.urlFor(ReplayOptions.MLH_URL));
+        System.out.println("  scraper.devpost.api.base-url=" + stub.urlFor(ReplayOptions.API_BASE_URL));
+        Thread.currentThread().join();
+    }
+}
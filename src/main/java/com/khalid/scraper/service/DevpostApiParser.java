@@ -0,0 +1,236 @@
+package com.khalid.scraper.service;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.khalid.scraper.model.HackathonDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes a Devpost API listing page ({@code {"hackathons": [...], ...}})
+ * into {@link HackathonDTO}s.
+ *
+ * {@link #parse(Reader)} streams the response through a {@link JsonReader},
+ * copying the fields it needs straight into DTOs and skipping everything
+ * else, so neither the body string nor a JSON tree is ever built.
+ * {@link #parseTree(String)} is the equivalent tree-based decoding, kept as
+ * the reference for tests and benchmarks; both must produce the same DTOs.
+ */
+public final class DevpostApiParser {
+
+    private DevpostApiParser() {
+    }
+
+    public static List<HackathonDTO> parse(Reader body) throws IOException {
+        List<HackathonDTO> out = new ArrayList<>();
+        JsonReader in = new JsonReader(body);
+        if (in.peek() != JsonToken.BEGIN_OBJECT)
+            throw new IOException("Unexpected API response: expected an object, got " + in.peek());
+
+        in.beginObject();
+        while (in.hasNext()) {
+            if (in.nextName().equals("hackathons") && in.peek() == JsonToken.BEGIN_ARRAY) {
+                in.beginArray();
+                while (in.hasNext()) {
+                    if (in.peek() == JsonToken.BEGIN_OBJECT) {
+                        out.add(readHackathon(in));
+                    } else {
+                        in.skipValue();
+                    }
+                }
+                in.endArray();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return out;
+    }
+
+    private static HackathonDTO readHackathon(JsonReader in) throws IOException {
+        String title = null, url = null, organization = null, location = null, displayedLocation = null;
+        String startDate = null, endDate = null, prizeAmount = null, registrations = null, featured = null;
+        String openState = null, thumbnailUrl = null;
+        // Candidates in priority order, as in getFirstString below
+        String[] blurb = new String[4];
+        String[] requirements = new String[3];
+        String[] judges = new String[2];
+        String[] criteria = new String[3];
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "title" -> title = readString(in);
+                case "url" -> url = readString(in);
+                case "organization_name" -> organization = readString(in);
+                case "location" -> location = readString(in);
+                case "displayed_location" -> displayedLocation = readNestedLocation(in);
+                case "start_a" -> startDate = readString(in);
+                case "end_a" -> endDate = readString(in);
+                case "prize_amount" -> prizeAmount = readString(in);
+                case "registrations_count" -> registrations = readString(in);
+                case "featured" -> featured = readString(in);
+                case "open_state" -> openState = readString(in);
+                case "thumbnail_url" -> thumbnailUrl = readString(in);
+                case "short_description" -> blurb[0] = readString(in);
+                case "description" -> blurb[1] = readString(in);
+                case "blurb" -> blurb[2] = readString(in);
+                case "summary" -> blurb[3] = readString(in);
+                case "requirements" -> requirements[0] = readString(in);
+                case "challenge_requirements" -> requirements[1] = readString(in);
+                case "requirements_text" -> requirements[2] = readString(in);
+                case "judges" -> judges[0] = readString(in);
+                case "judge_list" -> judges[1] = readString(in);
+                case "judging_criteria" -> criteria[0] = readString(in);
+                case "criteria" -> criteria[1] = readString(in);
+                case "judging" -> criteria[2] = readString(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return toDto(title, url, organization, location != null ? location : displayedLocation, startDate, endDate,
+                prizeAmount, registrations, featured, openState, thumbnailUrl,
+                first(blurb), first(requirements), first(judges), first(criteria));
+    }
+
+    /** {@code "displayed_location": {"location": "..."}} */
+    private static String readNestedLocation(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            return null;
+        }
+        String location = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            if (in.nextName().equals("location")) {
+                location = readString(in);
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return location;
+    }
+
+    /** Any primitive as its string form, like {@code JsonPrimitive.getAsString}; null otherwise. */
+    private static String readString(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case STRING, NUMBER:
+                return in.nextString();
+            case BOOLEAN:
+                return Boolean.toString(in.nextBoolean());
+            case NULL:
+                in.nextNull();
+                return null;
+            default:
+                in.skipValue();
+                return null;
+        }
+    }
+
+    /**
+     * Tree-based decoding of the same response.
+     */
+    public static List<HackathonDTO> parseTree(String body) {
+        List<HackathonDTO> out = new ArrayList<>();
+        JsonObject response = JsonParser.parseString(body).getAsJsonObject();
+        if (!response.has("hackathons") || !response.get("hackathons").isJsonArray())
+            return out;
+        JsonArray hackathons = response.getAsJsonArray("hackathons");
+        for (JsonElement element : hackathons) {
+            if (element.isJsonObject())
+                out.add(parseHackathon(element.getAsJsonObject()));
+        }
+        return out;
+    }
+
+    private static HackathonDTO parseHackathon(JsonObject json) {
+        String location = getStringOrNull(json, "location");
+        if (location == null && json.has("displayed_location") && json.get("displayed_location").isJsonObject()) {
+            location = getStringOrNull(json.getAsJsonObject("displayed_location"), "location");
+        }
+        return toDto(getStringOrNull(json, "title"), getStringOrNull(json, "url"),
+                getStringOrNull(json, "organization_name"), location,
+                getStringOrNull(json, "start_a"), getStringOrNull(json, "end_a"),
+                getStringOrNull(json, "prize_amount"), getStringOrNull(json, "registrations_count"),
+                getStringOrNull(json, "featured"), getStringOrNull(json, "open_state"),
+                getStringOrNull(json, "thumbnail_url"),
+                // Try common short blurb fields from Devpost API
+                getFirstString(json, "short_description", "description", "blurb", "summary"),
+                getFirstString(json, "requirements", "challenge_requirements", "requirements_text"),
+                getFirstString(json, "judges", "judge_list"),
+                getFirstString(json, "judging_criteria", "criteria", "judging"));
+    }
+
+    private static HackathonDTO toDto(String title, String url, String organization, String location,
+            String startDate, String endDate, String prizeAmount, String registrations, String featured,
+            String openState, String thumbnailUrl, String blurb, String requirements, String judges,
+            String judgingCriteria) {
+        HackathonDTO dto = new HackathonDTO();
+        dto.setTitle(title);
+        dto.setUrl(url);
+        dto.setOrganization(organization);
+        dto.setLocation(location);
+        dto.setStartDate(startDate);
+        dto.setEndDate(endDate);
+        dto.setPrizeAmount(prizeAmount);
+        dto.setRegistrationsCount(toInteger(registrations));
+        dto.setFeatured(Boolean.parseBoolean(featured));
+        dto.setOpenState(openState);
+        dto.setThumbnailUrl(thumbnailUrl);
+        // Ensure we never leave fields null so they appear in JSON (empty string if
+        // missing)
+        dto.setBlurb(blurb != null ? blurb : "");
+        dto.setRequirements(requirements != null ? requirements : "");
+        dto.setJudges(judges != null ? judges : "");
+        dto.setJudgingCriteria(judgingCriteria != null ? judgingCriteria : "");
+        dto.setDescription("");
+        dto.setSource("devpost");
+        return dto;
+    }
+
+    /**
+     * Return the first non-null string value for the provided keys.
+     */
+    private static String getFirstString(JsonObject json, String... keys) {
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = getStringOrNull(json, keys[i]);
+        }
+        return first(values);
+    }
+
+    private static String first(String[] values) {
+        for (String v : values) {
+            if (v != null && !v.isEmpty())
+                return v;
+        }
+        return null;
+    }
+
+    private static String getStringOrNull(JsonObject json, String key) {
+        return json.has(key) && json.get(key).isJsonPrimitive() ? json.get(key).getAsString() : null;
+    }
+
+    private static Integer toInteger(String value) {
+        if (value == null)
+            return null;
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            try {
+                return (int) Double.parseDouble(value.trim());
+            } catch (NumberFormatException ignored) {
+                return null;
+            }
+        }
+    }
+}
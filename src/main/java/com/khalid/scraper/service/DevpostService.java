@@ -1,13 +1,35 @@
 package com.khalid.scraper.service;
 
-import com.google.gson.*;
+import com.khalid.scraper.http.HttpDiskCache;
+import com.khalid.scraper.http.PageFetcher;
 import com.khalid.scraper.model.HackathonDTO;
+import com.khalid.scraper.replay.FixtureRecorder;
+import com.khalid.scraper.util.HostRateLimiter;
+import com.khalid.scraper.util.LogSampler;
+import com.khalid.scraper.util.ScrapeMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.*;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Service class for fetching hackathon data from Devpost API.
@@ -15,24 +37,75 @@ import java.util.*;
  * errors.
  */
 public class DevpostService {
-    private static final String API_BASE_URL = "https://devpost.com/api/hackathons";
+    private static final Logger log = LoggerFactory.getLogger(DevpostService.class);
+    // Per-hackathon lines are rate limited
+    private static final LogSampler SAMPLER = LogSampler.shared();
+
+    public static final String DEFAULT_API_BASE_URL = "https://devpost.com/api/hackathons";
     private static final String USER_AGENT = "Mozilla/5.0 (HackHub Scraper)";
     private static final int TIMEOUT_SECONDS = 15;
-    private static final int DELAY_MS = 1000;
+    // Challenge pages downloading at once when the caller gives no window
+    private static final int DEFAULT_DETAIL_WINDOW = 4;
+    // Challenge pages whose parsed details are kept for revalidation
+    private static final int MAX_PARSED_PAGES = 1024;
 
     // Retry configuration
     private static final int MAX_RETRIES = 3;
     private static final int INITIAL_RETRY_DELAY_MS = 2000;
     private static final int MAX_RETRY_DELAY_MS = 30000;
 
+    private final String apiBaseUrl;
     private final HttpClient httpClient;
+    private final PageFetcher pageFetcher;
+    // Details last parsed per challenge page, reused while the page revalidates
+    // (304). Access order, so the least recently used page is dropped first.
+    private final Map<String, ParsedPage> parsedPages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParsedPage> eldest) {
+            return size() > MAX_PARSED_PAGES;
+        }
+    };
+    private final ReentrantLock parsedPagesLock = new ReentrantLock();
+    // Jsoup parsing is CPU-bound; keep it off the HttpClient's I/O threads
+    private final ExecutorService parsePool;
     private final boolean debug;
+    private int initialRetryDelayMs = INITIAL_RETRY_DELAY_MS;
+    private final HostRateLimiter rateLimiter = HostRateLimiter.shared();
+    private final FixtureRecorder recorder = FixtureRecorder.shared();
 
     public DevpostService(boolean debug) {
+        this(debug, null);
+    }
+
+    /**
+     * @param pageCache disk cache for challenge pages, or null to always
+     *                  download them
+     */
+    public DevpostService(boolean debug, HttpDiskCache pageCache) {
+        this(debug, pageCache, DEFAULT_API_BASE_URL);
+    }
+
+    /**
+     * @param apiBaseUrl listing API endpoint, e.g. a local stub server
+     */
+    public DevpostService(boolean debug, HttpDiskCache pageCache, String apiBaseUrl) {
         this.debug = debug;
+        this.apiBaseUrl = apiBaseUrl;
+        // Virtual threads: blocked sends and async completions don't tie up
+        // platform threads, however many requests share this client. Moved
+        // challenge pages and API endpoints answer with a redirect.
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
                 .build();
+        this.pageFetcher = new PageFetcher(httpClient, pageCache, Duration.ofSeconds(TIMEOUT_SECONDS));
+        AtomicInteger parserId = new AtomicInteger();
+        this.parsePool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+            Thread thread = new Thread(task, "devpost-parse-" + parserId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
@@ -43,74 +116,309 @@ public class DevpostService {
      */
     public List<HackathonDTO> fetchHackathons(int maxPages) {
         List<HackathonDTO> allHackathons = new ArrayList<>();
+        fetchHackathons(maxPages, allHackathons::add);
+        return allHackathons;
+    }
+
+    /**
+     * Fetch hackathons from Devpost API with pagination, handing each one to
+     * {@code sink} as soon as its page is enriched instead of collecting them.
+     * A sink that throws stops the crawl.
+     *
+     * @param maxPages Maximum number of pages to fetch (0 = all)
+     * @return number of hackathons passed to the sink
+     */
+    public int fetchHackathons(int maxPages, Consumer<HackathonDTO> sink) {
         int currentPage = 1;
         int totalFetched = 0;
 
-        log("Starting to fetch hackathons...");
+        debug("Starting to fetch hackathons...");
 
         while (true) {
             if (maxPages > 0 && currentPage > maxPages) {
-                log("Reached maximum page limit: " + maxPages);
+                debug("Reached maximum page limit: " + maxPages);
                 break;
             }
 
             try {
-                System.out.print("📄 Fetching page " + currentPage + "... ");
+                List<HackathonDTO> pageDtos = fetchPageWithRetry(currentPage, null);
 
-                JsonObject response = fetchPageWithRetry(currentPage);
-                JsonArray hackathonsArray = response.getAsJsonArray("hackathons");
-
-                if (hackathonsArray == null || hackathonsArray.size() == 0) {
-                    System.out.println("✓ No more data");
-                    log("No more hackathons found. Ending pagination.");
+                if (pageDtos.isEmpty()) {
+                    log.info("Page {}: no more hackathons, ending pagination", currentPage);
                     break;
                 }
 
-                System.out.println("✓ Found " + hackathonsArray.size() + " hackathons");
+                log.info("Page {}: found {} hackathons", currentPage, pageDtos.size());
+
+                enrichAll(pageDtos, DEFAULT_DETAIL_WINDOW);
 
-                for (int i = 0; i < hackathonsArray.size(); i++) {
-                    JsonObject hackathonJson = hackathonsArray.get(i).getAsJsonObject();
-                    HackathonDTO dto = parseHackathon(hackathonJson);
-                    allHackathons.add(dto);
+                for (HackathonDTO dto : pageDtos) {
+                    sink.accept(dto);
                     totalFetched++;
 
-                    if (debug) {
-                        System.out.println("  ✓ " + dto.getTitle());
-                    }
+                    logHackathon(dto);
                 }
 
                 currentPage++;
 
-                // Rate limiting: pause between requests
-                if (currentPage <= maxPages || maxPages == 0) {
-                    Thread.sleep(DELAY_MS);
-                }
-
             } catch (InterruptedException e) {
-                System.err.println("✗ Interrupted during fetch");
+                log.warn("Interrupted during fetch");
                 Thread.currentThread().interrupt();
                 break;
             } catch (Exception e) {
-                System.err.println("✗ Error fetching page " + currentPage + ": " + e.getMessage());
-                log("Fatal error: " + e.getClass().getName() + " - " + e.getMessage());
+                log.error("Error fetching page {}: {}", currentPage, e.getMessage());
+                debug("Fatal error: " + e.getClass().getName() + " - " + e.getMessage());
                 break;
             }
         }
 
-        System.out.println("\n✅ Total hackathons fetched: " + totalFetched);
+        log.info("Total hackathons fetched: {}", totalFetched);
+        return totalFetched;
+    }
+
+    /**
+     * How a pipelined crawl ended.
+     *
+     * @param emitted  hackathons passed to the sink
+     * @param complete false if a page failed (after its retries), the sink
+     *                 threw or the crawl was interrupted before the listing
+     *                 ran out or {@code maxPages} was reached
+     */
+    public record PipelineResult(int emitted, boolean complete) {
+    }
+
+    /**
+     * Pipelined crawl collecting the results.
+     *
+     * @see #fetchHackathonsPipelined(int, int, int, Consumer)
+     * @return List of hackathon DTOs in API order
+     */
+    public List<HackathonDTO> fetchHackathonsPipelined(int maxPages, int concurrency, int detailConcurrency) {
+        List<HackathonDTO> allHackathons = new ArrayList<>();
+        fetchHackathonsPipelined(maxPages, concurrency, detailConcurrency, allHackathons::add);
         return allHackathons;
     }
 
     /**
-     * Fetch a single page with retry logic and exponential backoff.
+     * Pipelined crawl: up to {@code concurrency} API pages and
+     * {@code detailConcurrency} challenge pages are fetched at once, and each
+     * page is parsed as soon as it arrives, so page fetches, detail fetches and
+     * parsing overlap. Challenge pages are downloaded asynchronously (see
+     * {@link #enrichAsync(HackathonDTO)}). Every request (pages, retries and
+     * detail pages) still takes a permit from the shared
+     * {@link HostRateLimiter}.
+     *
+     * A page goes to {@code sink} once all its details are in and every
+     * earlier page has gone, so the sink sees API order and only the pages
+     * before the first empty or failed one. Calls to the sink are never
+     * concurrent; a sink that throws stops the crawl.
+     *
+     * @param maxPages Maximum number of pages to fetch (0 = all)
+     * @return how many hackathons went to the sink, and whether that is all of
+     *         them
+     */
+    public PipelineResult fetchHackathonsPipelined(int maxPages, int concurrency, int detailConcurrency,
+            Consumer<HackathonDTO> sink) {
+        long start = System.nanoTime();
+
+        AtomicInteger lastPage = new AtomicInteger(Integer.MAX_VALUE); // first empty or failed page
+        AtomicInteger emptyPage = new AtomicInteger(Integer.MAX_VALUE); // end of the listing
+        AtomicInteger failedPage = new AtomicInteger(Integer.MAX_VALUE);
+        boolean interrupted = false;
+        AtomicInteger detailPages = new AtomicInteger();
+        // Detail downloads still running; each one leaves the set as it completes,
+        // so at most detailConcurrency futures are held however long the crawl
+        Set<CompletableFuture<HackathonDTO>> inFlight = ConcurrentHashMap.newKeySet();
+        Semaphore pageSlots = new Semaphore(Math.max(1, concurrency));
+        Semaphore detailSlots = new Semaphore(Math.max(1, detailConcurrency));
+        PageReorderBuffer output = new PageReorderBuffer(lastPage, sink);
+
+        debug("Starting pipelined fetch (" + concurrency + " pages / " + detailConcurrency + " details in flight)...");
+
+        try {
+            try (ExecutorService pageStage = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int page = 1; maxPages == 0 || page <= maxPages; page++) {
+                    pageSlots.acquire();
+                    // Stop dispatching once any page came back empty or failed
+                    if (page > lastPage.get()) {
+                        pageSlots.release();
+                        break;
+                    }
+                    final int currentPage = page;
+                    pageStage.submit(() -> {
+                        List<HackathonDTO> dtos;
+                        try {
+                            dtos = fetchPageWithRetry(currentPage, null);
+                            if (dtos.isEmpty()) {
+                                emptyPage.accumulateAndGet(currentPage, Math::min);
+                                lastPage.accumulateAndGet(currentPage, Math::min);
+                                return null;
+                            }
+                            log.info("Page {}: found {} hackathons", currentPage, dtos.size());
+                        } catch (Exception e) {
+                            log.error("Error fetching page {}: {}", currentPage, e.getMessage());
+                            failedPage.accumulateAndGet(currentPage, Math::min);
+                            lastPage.accumulateAndGet(currentPage, Math::min);
+                            return null;
+                        } finally {
+                            pageSlots.release();
+                        }
+
+                        // Detail downloads for this page run alongside the next page fetches
+                        AtomicInteger remaining = new AtomicInteger(dtos.size());
+                        for (HackathonDTO dto : dtos) {
+                            detailSlots.acquire();
+                            CompletableFuture<HackathonDTO> detail = enrichAsync(dto).whenComplete((done, e) -> {
+                                detailSlots.release();
+                                detailPages.incrementAndGet();
+                                logHackathon(dto);
+                                if (remaining.decrementAndGet() == 0) {
+                                    output.pageDone(currentPage, dtos);
+                                }
+                            });
+                            inFlight.add(detail);
+                            detail.whenComplete((done, e) -> inFlight.remove(detail));
+                        }
+                        return null;
+                    });
+                }
+            }
+            // Every page task has finished dispatching; wait for the last details
+            awaitAll(List.copyOf(inFlight));
+        } catch (InterruptedException e) {
+            log.warn("Interrupted during fetch");
+            Thread.currentThread().interrupt();
+            interrupted = true;
+        }
+        // A page failing past the end of the listing cost nothing
+        boolean complete = !interrupted && !output.isSinkFailed()
+                && (failedPage.get() == Integer.MAX_VALUE || failedPage.get() > emptyPage.get());
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.atInfo().addKeyValue("hackathons", output.getEmitted())
+                .addKeyValue("hackathonsPerSec", String.format("%.1f", output.getEmitted() / seconds))
+                .addKeyValue("pagesPerSec", String.format("%.1f", output.getPagesEmitted() / seconds))
+                .addKeyValue("detailPages", detailPages.get())
+                .addKeyValue("seconds", String.format("%.1f", seconds))
+                .addKeyValue("complete", complete)
+                .log("Pipelined fetch finished");
+        return new PipelineResult(output.getEmitted(), complete);
+    }
+
+    /**
+     * Hands finished pages to the sink in page order. Only pages that are
+     * waiting for an earlier one are held in memory. Package-private for the
+     * tests.
      */
-    private JsonObject fetchPageWithRetry(int page) throws Exception {
-        String url = API_BASE_URL + "?page=" + page;
+    static class PageReorderBuffer {
+        private final AtomicInteger lastPage;
+        private final Consumer<HackathonDTO> sink;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Integer, List<HackathonDTO>> waiting = new HashMap<>();
+        private int nextPage = 1;
+        private int emitted;
+        private int pagesEmitted;
+        private boolean sinkFailed;
+
+        PageReorderBuffer(AtomicInteger lastPage, Consumer<HackathonDTO> sink) {
+            this.lastPage = lastPage;
+            this.sink = sink;
+        }
+
+        void pageDone(int page, List<HackathonDTO> dtos) {
+            lock.lock();
+            try {
+                waiting.put(page, dtos);
+                while (nextPage < lastPage.get() && waiting.containsKey(nextPage)) {
+                    for (HackathonDTO dto : waiting.remove(nextPage)) {
+                        sink.accept(dto);
+                        emitted++;
+                    }
+                    pagesEmitted++;
+                    nextPage++;
+                }
+            } catch (RuntimeException e) {
+                log.error("Could not write page {}: {}", nextPage, e.getMessage());
+                sinkFailed = true;
+                lastPage.accumulateAndGet(nextPage, Math::min);
+                waiting.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int getEmitted() {
+            lock.lock();
+            try {
+                return emitted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int getPagesEmitted() {
+            lock.lock();
+            try {
+                return pagesEmitted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isSinkFailed() {
+            lock.lock();
+            try {
+                return sinkFailed;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Fetch a single page of hackathons, optionally filtered by the API's
+     * free-text search. Listing fields only unless {@code withDetails} is set;
+     * use {@link #enrichFromPage(HackathonDTO)} to fill details on demand.
+     *
+     * @return the hackathons on that page (empty when past the last page)
+     */
+    public List<HackathonDTO> fetchPage(int page, String search, boolean withDetails) throws Exception {
+        List<HackathonDTO> out = fetchPageWithRetry(page, search);
+        if (withDetails) {
+            enrichAll(out, DEFAULT_DETAIL_WINDOW);
+        }
+        return out;
+    }
+
+    /**
+     * Fetch a single page with retry logic and exponential backoff. The body
+     * is decoded as it streams in (see {@link DevpostApiParser}), unless it
+     * is being recorded as a fixture. Timed as a whole, retries and backoff
+     * included.
+     */
+    private List<HackathonDTO> fetchPageWithRetry(int page, String search) throws Exception {
+        long start = System.nanoTime();
+        String outcome = ScrapeMetrics.ERROR;
+        try {
+            List<HackathonDTO> out = fetchPageAttempts(page, search);
+            outcome = ScrapeMetrics.SUCCESS;
+            return out;
+        } finally {
+            ScrapeMetrics.record("api.page", "devpost", outcome, System.nanoTime() - start);
+        }
+    }
+
+    private List<HackathonDTO> fetchPageAttempts(int page, String search) throws Exception {
+        String url = apiBaseUrl + "?page=" + page;
+        if (search != null && !search.isBlank()) {
+            url += "&search=" + URLEncoder.encode(search.trim(), StandardCharsets.UTF_8);
+        }
         int attempt = 0;
-        int retryDelay = INITIAL_RETRY_DELAY_MS;
+        int retryDelay = initialRetryDelayMs;
 
         while (attempt <= MAX_RETRIES) {
             try {
+                rateLimiter.acquire(url);
                 HttpRequest request = HttpRequest.newBuilder()
                         .uri(URI.create(url))
                         .header("User-Agent", USER_AGENT)
@@ -119,39 +427,56 @@ public class DevpostService {
                         .GET()
                         .build();
 
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<InputStream> response = httpClient.send(request,
+                        HttpResponse.BodyHandlers.ofInputStream());
                 int statusCode = response.statusCode();
 
-                if (statusCode == 200) {
-                    return JsonParser.parseString(response.body()).getAsJsonObject();
-                } else if (statusCode == 429) {
+                // Closing the body hands the connection back, whatever the status
+                try (InputStream body = response.body()) {
+                    if (statusCode == 200 && recorder.isRecording()) {
+                        String json = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                        recorder.record(url, 200, "application/json", json);
+                        return DevpostApiParser.parse(new StringReader(json));
+                    }
+                    if (statusCode == 200) {
+                        return DevpostApiParser.parse(new InputStreamReader(body, StandardCharsets.UTF_8));
+                    }
+                    if (statusCode != 429 && statusCode < 500) {
+                        throw new ClientErrorException("HTTP " + statusCode + ": "
+                                + new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                    }
+                }
+
+                if (statusCode == 429) {
                     // Rate limited
                     if (attempt < MAX_RETRIES) {
-                        System.out.println("\n⚠️  Rate limited (429). Retrying in " + (retryDelay / 1000) + "s...");
+                        ScrapeMetrics.retry("devpost", "429");
+                        log.warn("Rate limited (429), retrying in {}s", retryDelay / 1000);
                         Thread.sleep(retryDelay);
                         retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
                         attempt++;
                     } else {
                         throw new IOException("Rate limit exceeded after " + MAX_RETRIES + " retries");
                     }
-                } else if (statusCode >= 500) {
+                } else {
                     // Server error
                     if (attempt < MAX_RETRIES) {
-                        System.out.println(
-                                "\n⚠️  Server error (" + statusCode + "). Retrying in " + (retryDelay / 1000) + "s...");
+                        ScrapeMetrics.retry("devpost", String.valueOf(statusCode));
+                        log.warn("Server error ({}), retrying in {}s", statusCode, retryDelay / 1000);
                         Thread.sleep(retryDelay);
                         retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
                         attempt++;
                     } else {
                         throw new IOException("Server error " + statusCode + " after " + MAX_RETRIES + " retries");
                     }
-                } else {
-                    throw new IOException("HTTP " + statusCode + ": " + response.body());
                 }
 
             } catch (IOException | InterruptedException e) {
-                if (attempt < MAX_RETRIES && !(e instanceof InterruptedException)) {
-                    System.out.println("\n⚠️  Connection error. Retrying in " + (retryDelay / 1000) + "s...");
+                // A 4xx will not go away by asking again
+                if (attempt < MAX_RETRIES && !(e instanceof InterruptedException)
+                        && !(e instanceof ClientErrorException)) {
+                    ScrapeMetrics.retry("devpost", "io");
+                    log.warn("Connection error ({}), retrying in {}s", e.getMessage(), retryDelay / 1000);
                     Thread.sleep(retryDelay);
                     retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
                     attempt++;
@@ -165,179 +490,205 @@ public class DevpostService {
     }
 
     /**
-     * Parse JSON object into HackathonDTO.
+     * If the API did not provide some of the detail fields, attempt to fetch
+     * them from the hackathon page. Only blank fields are filled in.
      */
-    private HackathonDTO parseHackathon(JsonObject json) {
-        HackathonDTO dto = new HackathonDTO();
-        dto.setTitle(getStringOrNull(json, "title"));
-        dto.setUrl(getStringOrNull(json, "url"));
-        dto.setOrganization(getStringOrNull(json, "organization_name"));
-        dto.setLocation(getStringOrNull(json, "location"));
-        dto.setStartDate(getStringOrNull(json, "start_a"));
-        dto.setEndDate(getStringOrNull(json, "end_a"));
-        dto.setPrizeAmount(getStringOrNull(json, "prize_amount"));
-        dto.setRegistrationsCount(getIntOrNull(json, "registrations_count"));
-        dto.setFeatured(getBooleanOrFalse(json, "featured"));
-        dto.setOpenState(getStringOrNull(json, "open_state"));
-        dto.setThumbnailUrl(getStringOrNull(json, "thumbnail_url"));
-        // Try common short blurb fields from Devpost API
-        String desc = getFirstString(json, "short_description", "description", "blurb", "summary");
-        String requirements = getFirstString(json, "requirements", "challenge_requirements", "requirements_text");
-        String judges = getFirstString(json, "judges", "judge_list");
-        String judgingCriteria = getFirstString(json, "judging_criteria", "criteria", "judging");
-
-        // If API did not provide some of these, attempt to fetch them from the
-        // hackathon page
-        Map<String, String> details = new HashMap<>();
-        if ((desc == null || desc.isBlank() || requirements == null || judges == null || judgingCriteria == null)
-                && dto.getUrl() != null && !dto.getUrl().isBlank()) {
-            try {
-                details = fetchDetailsFromPage(dto.getUrl());
-                // prefer plain/text short description for blurb, avoid using HTML
-                if ((desc == null || desc.isBlank()) && details.get("description") != null)
-                    desc = details.get("description");
-                if ((requirements == null || requirements.isBlank()) && details.get("requirements") != null)
-                    requirements = details.get("requirements");
-                if ((judges == null || judges.isBlank()) && details.get("judges") != null)
-                    judges = details.get("judges");
-                if ((judgingCriteria == null || judgingCriteria.isBlank()) && details.get("judgingCriteria") != null)
-                    judgingCriteria = details.get("judgingCriteria");
-            } catch (Exception e) {
-                log("Could not fetch page details: " + e.getMessage());
-            }
+    public void enrichFromPage(HackathonDTO dto) {
+        try {
+            enrichAsync(dto).join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-
-        // Ensure we never leave fields null so they appear in JSON (empty string if
-        // missing)
-        dto.setBlurb(desc != null ? desc : "");
-        dto.setRequirements(requirements != null ? requirements : "");
-        dto.setJudges(judges != null ? judges : "");
-        dto.setJudgingCriteria(judgingCriteria != null ? judgingCriteria : "");
-        // set long description (prefer HTML from page), keep blurb as short text
-        String longDesc = details.getOrDefault("descriptionHtml", details.getOrDefault("description", ""));
-        dto.setDescription(longDesc);
-        dto.setSource("devpost");
-        return dto;
     }
 
     /**
-     * Fetch the hackathon page and attempt to extract a short description or meta
-     * description.
+     * Enrich many hackathons with at most {@code window} challenge pages
+     * downloading at once. Each page is parsed and merged into its DTO as soon
+     * as it arrives; returns when all of them are done.
      */
-    private String fetchDescriptionFromPage(String url) {
+    public void enrichAll(Collection<HackathonDTO> dtos, int window) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(Math.max(1, window));
+        List<CompletableFuture<HackathonDTO>> pending = new ArrayList<>();
         try {
-            // Use Jsoup to fetch and parse page HTML
-            org.jsoup.nodes.Document doc = org.jsoup.Jsoup.connect(url)
-                    .userAgent(USER_AGENT)
-                    .timeout(TIMEOUT_SECONDS * 1000)
-                    .get();
-
-            // 1) meta description
-            org.jsoup.nodes.Element meta = doc.selectFirst("meta[name=description], meta[property=og:description]");
-            if (meta != null) {
-                String content = meta.hasAttr("content") ? meta.attr("content") : meta.text();
-                if (content != null && !content.isBlank())
-                    return content.trim();
+            for (HackathonDTO dto : dtos) {
+                inFlight.acquire();
+                pending.add(enrichAsync(dto).whenComplete((done, e) -> inFlight.release()));
             }
+        } catch (InterruptedException e) {
+            pending.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        awaitAll(pending);
+    }
 
-            // 2) common page selectors for Devpost challenge blurb
-            org.jsoup.nodes.Element blurb = doc.selectFirst(
-                    ".challenge-blurb, .challenge-description, .blurb, .summary, .excerpt, .challenge-intro");
-            if (blurb != null) {
-                String text = blurb.text();
-                if (text != null && !text.isBlank())
-                    return text.trim();
-            }
+    /**
+     * Start filling the blank detail fields of {@code dto} from its challenge
+     * page. Only waits for a rate-limit permit: the download runs on the
+     * shared {@link HttpClient}, Jsoup parsing on a CPU-sized pool, and a page
+     * that revalidates unchanged is not parsed again. The future never fails;
+     * a page that cannot be fetched leaves the DTO unchanged.
+     */
+    public CompletableFuture<HackathonDTO> enrichAsync(HackathonDTO dto) throws InterruptedException {
+        if (!needsDetails(dto))
+            return CompletableFuture.completedFuture(dto);
 
-        } catch (Exception e) {
-            // allow caller to handle/log
-            if (debug)
-                e.printStackTrace();
+        String url = dto.getUrl();
+        CompletableFuture<PageFetcher.PageResponse> page;
+        try {
+            page = pageFetcher.fetchAsync(url);
+        } catch (IllegalArgumentException e) {
+            debug("Invalid hackathon URL: " + url);
+            return CompletableFuture.completedFuture(dto);
+        }
+        return page.thenApplyAsync(response -> detailsFor(url, response), parsePool)
+                .thenApply(details -> {
+                    mergeDetails(dto, details);
+                    return dto;
+                })
+                .exceptionally(e -> {
+                    debug("Could not fetch page details: " + e.getMessage());
+                    return dto;
+                });
+    }
+
+    /** Shorten the backoff between listing retries. Package-private for the tests. */
+    void setInitialRetryDelayMs(int initialRetryDelayMs) {
+        this.initialRetryDelayMs = initialRetryDelayMs;
+    }
+
+    /** Challenge page fetcher (shared HttpClient, rate limiter and disk cache). */
+    public PageFetcher getPageFetcher() {
+        return pageFetcher;
+    }
+
+    private Map<String, String> detailsFor(String url, PageFetcher.PageResponse page) {
+        if (!page.isOk()) {
+            debug("Challenge page " + page.uri() + " returned HTTP " + page.status());
+            return Map.of();
         }
-        return null;
+        ParsedPage previous;
+        parsedPagesLock.lock();
+        try {
+            previous = parsedPages.get(url);
+        } finally {
+            parsedPagesLock.unlock();
+        }
+        if (page.notModified() && previous != null && previous.validator().equals(page.validator()))
+            return previous.details();
+
+        // Parse outside the lock; a page parsed twice at once just stores the same details
+        Map<String, String> details = parseDetails(page.body(), page.uri().toString());
+        if (page.validator() != null) {
+            parsedPagesLock.lock();
+            try {
+                parsedPages.put(url, new ParsedPage(page.validator(), details));
+            } finally {
+                parsedPagesLock.unlock();
+            }
+        }
+        return details;
+    }
+
+    private boolean needsDetails(HackathonDTO dto) {
+        if (dto.getUrl() == null || dto.getUrl().isBlank())
+            return false;
+        return dto.getBlurb().isBlank() || dto.getRequirements().isBlank() || dto.getJudges().isBlank()
+                || dto.getJudgingCriteria().isBlank();
+    }
+
+    private void mergeDetails(HackathonDTO dto, Map<String, String> details) {
+        if (details.isEmpty())
+            return;
+        // prefer plain/text short description for blurb, avoid using HTML
+        if (dto.getBlurb().isBlank() && details.get("description") != null)
+            dto.setBlurb(details.get("description"));
+        if (dto.getRequirements().isBlank() && details.get("requirements") != null)
+            dto.setRequirements(details.get("requirements"));
+        if (dto.getJudges().isBlank() && details.get("judges") != null)
+            dto.setJudges(details.get("judges"));
+        if (dto.getJudgingCriteria().isBlank() && details.get("judgingCriteria") != null)
+            dto.setJudgingCriteria(details.get("judgingCriteria"));
+        // set long description (prefer HTML from page), keep blurb as short text
+        dto.setDescription(details.getOrDefault("descriptionHtml", details.getOrDefault("description", "")));
     }
 
     /**
-     * Fetch multiple detail fields from the challenge page using Jsoup.
+     * Extract multiple detail fields from a downloaded challenge page.
+     * Package-private for the benchmarks.
      */
-    private Map<String, String> fetchDetailsFromPage(String url) {
+    static Map<String, String> parseDetails(String html, String baseUri) {
         Map<String, String> out = new HashMap<>();
-        try {
-            org.jsoup.nodes.Document doc = org.jsoup.Jsoup.connect(url)
-                    .userAgent(USER_AGENT)
-                    .timeout(TIMEOUT_SECONDS * 1000)
-                    .get();
-
-            // description (meta or article element)
-            org.jsoup.nodes.Element meta = doc.selectFirst("meta[name=description], meta[property=og:description]");
-            if (meta != null) {
-                String content = meta.hasAttr("content") ? meta.attr("content") : meta.text();
-                if (content != null && !content.isBlank())
-                    out.put("description", content.trim());
-            }
+        org.jsoup.nodes.Document doc = org.jsoup.Jsoup.parse(html, baseUri);
+
+        // description (meta or article element)
+        org.jsoup.nodes.Element meta = doc.selectFirst("meta[name=description], meta[property=og:description]");
+        if (meta != null) {
+            String content = meta.hasAttr("content") ? meta.attr("content") : meta.text();
+            if (content != null && !content.isBlank())
+                out.put("description", content.trim());
+        }
 
-            org.jsoup.nodes.Element descEl = doc.selectFirst(
-                    "main #challenge-description, main .challenge-blurb, main #challenge-description, #challenge-description, .challenge-description");
-            if (descEl != null) {
-                String text = descEl.text();
-                String html = descEl.html();
-                if (text != null && !text.isBlank()) {
-                    out.putIfAbsent("description", text.trim());
-                }
-                if (html != null && !html.isBlank()) {
-                    out.putIfAbsent("descriptionHtml", html.trim());
-                }
+        org.jsoup.nodes.Element descEl = doc.selectFirst(
+                "main #challenge-description, main .challenge-blurb, main #challenge-description, #challenge-description, .challenge-description");
+        if (descEl != null) {
+            String text = descEl.text();
+            String descHtml = descEl.html();
+            if (text != null && !text.isBlank()) {
+                out.putIfAbsent("description", text.trim());
+            }
+            if (descHtml != null && !descHtml.isBlank()) {
+                out.putIfAbsent("descriptionHtml", descHtml.trim());
             }
+        }
 
-            org.jsoup.nodes.Element req = doc.selectFirst(
-                    "main #challenge-requirements, #challenge-requirements, .challenge-requirements, .requirements");
-            if (req != null && !req.text().isBlank())
-                out.put("requirements", req.text().trim());
+        org.jsoup.nodes.Element req = doc.selectFirst(
+                "main #challenge-requirements, #challenge-requirements, .challenge-requirements, .requirements");
+        if (req != null && !req.text().isBlank())
+            out.put("requirements", req.text().trim());
 
-            org.jsoup.nodes.Element judgesEl = doc.selectFirst("main #judges, #judges, .judges, .judge-list");
-            if (judgesEl != null && !judgesEl.text().isBlank())
-                out.put("judges", judgesEl.text().trim());
+        org.jsoup.nodes.Element judgesEl = doc.selectFirst("main #judges, #judges, .judges, .judge-list");
+        if (judgesEl != null && !judgesEl.text().isBlank())
+            out.put("judges", judgesEl.text().trim());
 
-            org.jsoup.nodes.Element crit = doc
-                    .selectFirst("main #judging-criteria, #judging-criteria, .judging-criteria, .criteria");
-            if (crit != null && !crit.text().isBlank())
-                out.put("judgingCriteria", crit.text().trim());
+        org.jsoup.nodes.Element crit = doc
+                .selectFirst("main #judging-criteria, #judging-criteria, .judging-criteria, .criteria");
+        if (crit != null && !crit.text().isBlank())
+            out.put("judgingCriteria", crit.text().trim());
 
-        } catch (Exception e) {
-            if (debug)
-                e.printStackTrace();
-        }
         return out;
     }
 
     /**
-     * Return the first non-null string value for the provided keys.
+     * Wait for every future; on interrupt, cancel the ones still running.
      */
-    private String getFirstString(JsonObject json, String... keys) {
-        for (String k : keys) {
-            String v = getStringOrNull(json, k);
-            if (v != null && !v.isEmpty())
-                return v;
+    private void awaitAll(Collection<? extends CompletableFuture<?>> futures) throws InterruptedException {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        } catch (ExecutionException e) {
+            // enrichAsync futures recover from their own failures
+            debug("Detail enrichment failed: " + e.getCause());
         }
-        return null;
     }
 
-    // JSON helper methods
-    private String getStringOrNull(JsonObject json, String key) {
-        return json.has(key) && !json.get(key).isJsonNull() ? json.get(key).getAsString() : null;
+    private record ParsedPage(String validator, Map<String, String> details) {
     }
 
-    private Integer getIntOrNull(JsonObject json, String key) {
-        return json.has(key) && !json.get(key).isJsonNull() ? json.get(key).getAsInt() : null;
+    private static final class ClientErrorException extends IOException {
+        ClientErrorException(String message) {
+            super(message);
+        }
     }
 
-    private Boolean getBooleanOrFalse(JsonObject json, String key) {
-        return json.has(key) && !json.get(key).isJsonNull() ? json.get(key).getAsBoolean() : false;
+    /** Debug mode (the CLI's --debug) shows these lines at INFO. */
+    private void debug(String message) {
+        log.atLevel(debug ? Level.INFO : Level.DEBUG).log(message);
     }
 
-    private void log(String message) {
-        if (debug) {
-            System.out.println("[DEBUG] " + message);
-        }
+    private void logHackathon(HackathonDTO dto) {
+        SAMPLER.at(log, debug ? Level.INFO : Level.DEBUG, "devpost.hackathon").addKeyValue("title", dto.getTitle())
+                .log("Fetched hackathon");
     }
 }
@@ -0,0 +1,135 @@
+package com.khalid.scraper.util;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide politeness limiter: one {@link RateLimiter} per host, shared by
+ * every fetch path (API calls, Jsoup page fetches and browser navigations), so
+ * concurrent requests coordinate instead of each pacing itself.
+ *
+ * A configured host also covers its subdomains, e.g. a rate for
+ * "devpost.com" applies to every "*.devpost.com" challenge page through a
+ * single bucket. Other hosts get their own bucket at the default rate.
+ */
+public final class HostRateLimiter {
+
+    private static final HostRateLimiter SHARED = new HostRateLimiter(2.0, 2);
+
+    /** Bucket for URLs that do not parse, paced at the default rate. */
+    static final String UNPARSEABLE = "(unparseable)";
+
+    private volatile double defaultRate;
+    private volatile int defaultBurst;
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> buckets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> acquired = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> waitedNanos = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(double defaultRate, int defaultBurst) {
+        this.defaultRate = defaultRate;
+        this.defaultBurst = defaultBurst;
+    }
+
+    /** The limiter used by all scrapers in this JVM. */
+    public static HostRateLimiter shared() {
+        return SHARED;
+    }
+
+    /**
+     * Replace the default and per-host rates. Buckets are rebuilt on next use.
+     */
+    public void configure(double defaultRate, int defaultBurst, Map<String, Double> hostRates) {
+        if (defaultRate <= 0)
+            throw new IllegalArgumentException("defaultRate must be > 0");
+        this.defaultRate = defaultRate;
+        this.defaultBurst = Math.max(1, defaultBurst);
+        limits.clear();
+        hostRates.forEach((host, rate) -> limits.put(normalize(host), new Limit(rate, this.defaultBurst)));
+        buckets.clear();
+    }
+
+    /** Set the rate for one host (and its subdomains). */
+    public void setLimit(String host, double permitsPerSecond, int burst) {
+        String key = normalize(host);
+        limits.put(key, new Limit(permitsPerSecond, Math.max(1, burst)));
+        buckets.remove(key);
+    }
+
+    /**
+     * Block until a request to {@code url} may be sent. URLs without a host
+     * (about:blank, data:, relative) are not limited; URLs that do not parse
+     * share the {@link #UNPARSEABLE} bucket.
+     */
+    public void acquire(String url) throws InterruptedException {
+        String host = hostOf(url);
+        if (host == null)
+            return;
+        String key = bucketKey(host);
+        RateLimiter bucket = buckets.computeIfAbsent(key, k -> {
+            Limit limit = limits.getOrDefault(k, new Limit(defaultRate, defaultBurst));
+            return new RateLimiter(limit.permitsPerSecond(), limit.burst());
+        });
+        long start = System.nanoTime();
+        bucket.acquire();
+        acquired.computeIfAbsent(key, k -> new LongAdder()).increment();
+        waitedNanos.computeIfAbsent(key, k -> new LongAdder()).add(System.nanoTime() - start);
+    }
+
+    /**
+     * @return per bucket: permits handed out, total and average wait
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        buckets.forEach((key, bucket) -> {
+            long count = acquired.getOrDefault(key, new LongAdder()).sum();
+            long waited = waitedNanos.getOrDefault(key, new LongAdder()).sum();
+            Map<String, Object> host = new LinkedHashMap<>();
+            host.put("permitsPerSecond", bucket.getPermitsPerSecond());
+            host.put("acquired", count);
+            host.put("waitedMs", waited / 1_000_000);
+            host.put("avgWaitMs", count == 0 ? 0 : waited / count / 1_000_000);
+            stats.put(key, host);
+        });
+        return stats;
+    }
+
+    /** The configured host this one falls under, or the host itself. */
+    String bucketKey(String host) {
+        for (String candidate = host; candidate != null; candidate = parent(candidate)) {
+            if (limits.containsKey(candidate))
+                return candidate;
+        }
+        return host;
+    }
+
+    static String hostOf(String url) {
+        if (url == null)
+            return null;
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host == null ? null : normalize(host);
+        } catch (IllegalArgumentException e) {
+            // The request may still reach a real host, so it must not go unthrottled
+            return UNPARSEABLE;
+        }
+    }
+
+    private static String parent(String host) {
+        int dot = host.indexOf('.');
+        // Stop before the bare TLD
+        return dot < 0 || host.indexOf('.', dot + 1) < 0 ? null : host.substring(dot + 1);
+    }
+
+    private static String normalize(String host) {
+        String h = host.trim().toLowerCase(Locale.ROOT);
+        return h.startsWith("www.") ? h.substring(4) : h;
+    }
+
+    private record Limit(double permitsPerSecond, int burst) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.khalid.scraper.util;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rate limit for log lines written once per event, page or card: at most
+ * {@code perSecond} lines per key and second get through. The next line let
+ * through after some were dropped carries their number as
+ * {@code dropped=<n>}, so the volume stays visible while the hot path no
+ * longer formats and queues a line per item.
+ *
+ * Usage:
+ * sampler.at(log, Level.INFO, "devpost.tile").addKeyValue("title", title).log("Parsed tile");
+ */
+public final class LogSampler {
+
+    private static final LogSampler SHARED = new LogSampler(5);
+    private static final long SECOND_NANOS = 1_000_000_000L;
+
+    private volatile int perSecond;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> droppedTotal = new ConcurrentHashMap<>();
+
+    /**
+     * @param perSecond lines let through per key and second; 0 or less
+     *                  disables sampling
+     */
+    public LogSampler(int perSecond) {
+        this.perSecond = perSecond;
+    }
+
+    /** The sampler used by all scrapers in this JVM. */
+    public static LogSampler shared() {
+        return SHARED;
+    }
+
+    public void setPerSecond(int perSecond) {
+        this.perSecond = perSecond;
+    }
+
+    public int getPerSecond() {
+        return perSecond;
+    }
+
+    /**
+     * A builder for one line under {@code key}, or a no-op builder if the
+     * level is off or the key is over its rate.
+     */
+    public LoggingEventBuilder at(Logger log, Level level, String key) {
+        if (!log.isEnabledForLevel(level))
+            return NOPLoggingEventBuilder.singleton();
+        long dropped = sample(key, System.nanoTime());
+        if (dropped < 0)
+            return NOPLoggingEventBuilder.singleton();
+        LoggingEventBuilder builder = log.atLevel(level);
+        return dropped > 0 ? builder.addKeyValue("dropped", dropped) : builder;
+    }
+
+    /**
+     * @return -1 if the line is dropped, otherwise the number of lines
+     *         dropped under {@code key} since the last one let through
+     */
+    long sample(String key, long nowNanos) {
+        int limit = perSecond;
+        if (limit <= 0)
+            return 0;
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        window.lock.lock();
+        try {
+            if (nowNanos - window.start >= SECOND_NANOS || window.used == 0) {
+                window.start = nowNanos;
+                window.used = 0;
+            }
+            if (window.used >= limit) {
+                window.dropped++;
+                droppedTotal.computeIfAbsent(key, k -> new LongAdder()).increment();
+                return -1;
+            }
+            window.used++;
+            long dropped = window.dropped;
+            window.dropped = 0;
+            return dropped;
+        } finally {
+            window.lock.unlock();
+        }
+    }
+
+    /** Lines dropped per key since startup. */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        droppedTotal.forEach((key, count) -> stats.put(key, count.sum()));
+        return stats;
+    }
+
+    private static final class Window {
+        final ReentrantLock lock = new ReentrantLock();
+        long start;
+        int used;
+        long dropped;
+    }
+}
@@ -0,0 +1,96 @@
+package com.khalid.scraper.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for each scrape phase, tagged by provider and outcome, with
+ * percentile histograms so latency quantiles can be aggregated across
+ * instances (e.g. {@code histogram_quantile} in Prometheus).
+ *
+ * Meters go to Micrometer's global registry: inside the Spring app that is
+ * backed by the Actuator/Prometheus registry, while the CLI records into an
+ * empty (no-op) registry.
+ *
+ * Phases: driver.create, navigate, readiness, parse, deep, api.page,
+ * sse.send; all named {@code hackhub.scrape.<phase>}.
+ *
+ * Meters are registered once per tag combination and kept, so recording on
+ * the hot path is a map lookup rather than a registry lookup. Registries
+ * added to the global one later still receive them.
+ */
+public final class ScrapeMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private static final String PREFIX = "hackhub.scrape.";
+
+    private static final Map<Tags, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final Map<Tags, DistributionSummary> PAGE_BYTES = new ConcurrentHashMap<>();
+
+    // Meter name (or phase) and its two tag values
+    private record Tags(String name, String first, String second) {
+    }
+
+    private ScrapeMetrics() {
+    }
+
+    public static void record(String phase, String provider, String outcome, long nanos) {
+        TIMERS.computeIfAbsent(new Tags(phase, provider, outcome), tags -> Timer.builder(PREFIX + phase)
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(5))
+                .register(Metrics.globalRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param status the HTTP status that caused the retry, or "io" for a
+     *               connection error
+     */
+    public static void retry(String provider, String status) {
+        Counter.builder(PREFIX + "retries")
+                .tag("provider", provider)
+                .tag("status", status)
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
+    /**
+     * Bytes one browser page load received.
+     *
+     * @param blocking "blocked" or "unblocked" (resource blocking off for the
+     *                 load)
+     */
+    public static void pageBytes(String provider, String blocking, long bytes) {
+        PAGE_BYTES.computeIfAbsent(new Tags("page.bytes", provider, blocking),
+                tags -> DistributionSummary.builder(PREFIX + "page.bytes")
+                        .baseUnit("bytes")
+                        .tag("provider", provider)
+                        .tag("blocking", blocking)
+                        .register(Metrics.globalRegistry))
+                .record(bytes);
+    }
+
+    /** "devpost", "mlh" or "external", by host. */
+    public static String providerOf(String url) {
+        String host = HostRateLimiter.hostOf(url);
+        if (host == null)
+            return "external";
+        if (host.equals("devpost.com") || host.endsWith(".devpost.com"))
+            return "devpost";
+        if (host.equals("mlh.io") || host.endsWith(".mlh.io"))
+            return "mlh";
+        return "external";
+    }
+}
@@ -0,0 +1,51 @@
+package com.hackhub.browser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockingProfileTest {
+
+    private final BlockingProfile profile = new BlockingProfile("lean", List.of("image", " Font", "MEDIA"),
+            List.of("*google-analytics.com/*", "https://devpost.com/assets/tracking-?.js"),
+            List.of("*devpost.com/assets/logo*"));
+
+    @Test
+    public void blocksByResourceTypeAndUrlPattern() {
+        assertTrue(profile.blocks("https://d112y698adiu2z.cloudfront.net/photo.png", "Image"));
+        assertTrue(profile.blocks("https://fonts.gstatic.com/s/inter.woff2", "Font"));
+        assertTrue(profile.blocks("https://www.google-analytics.com/analytics.js", "Script"));
+        assertTrue(profile.blocks("https://devpost.com/assets/tracking-1.js", "Script"));
+
+        assertFalse(profile.blocks("https://devpost.com/assets/tracking-12.js", "Script"));
+        assertFalse(profile.blocks("https://devpost.com/assets/app.css", "Stylesheet"));
+        assertFalse(profile.blocks("https://devpost.com/hackathons", "Document"));
+    }
+
+    @Test
+    public void allowPatternsWinOverBlockedTypes() {
+        assertFalse(profile.blocks("https://devpost.com/assets/logo.svg", "Image"));
+        assertTrue(BlockingProfile.NONE.isEmpty());
+        assertFalse(BlockingProfile.NONE.blocks("https://devpost.com/photo.png", "Image"));
+    }
+
+    @Test
+    public void pausesOnlyWhatTheProfileMightBlock() {
+        List<Map<String, Object>> patterns = profile.fetchPatterns();
+        assertEquals(5, patterns.size());
+        assertTrue(patterns.contains(Map.of("urlPattern", "*", "resourceType", "Image", "requestStage", "Request")));
+        assertTrue(patterns.contains(Map.of("urlPattern", "*google-analytics.com/*", "requestStage", "Request")));
+    }
+
+    @Test
+    public void rejectsUnknownResourceTypes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BlockingProfile("typo", List.of("Images"), List.of(), List.of()));
+    }
+}
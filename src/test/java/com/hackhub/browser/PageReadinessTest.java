@@ -0,0 +1,45 @@
+package com.hackhub.browser;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PageReadinessTest {
+
+    private final PageReadiness readiness = new PageReadiness(5000, 5, 20, 100);
+
+    @Test
+    public void emptyListingIsReadyAfterTheEmptyQuietPeriod() throws Exception {
+        long start = System.nanoTime();
+        assertTrue(readiness.await(driver(0L), "devpost-listing", readiness.countStable(".hackathon-tile")));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMs >= 100, "waited " + elapsedMs + "ms");
+        assertTrue(elapsedMs < 5000, "waited " + elapsedMs + "ms");
+    }
+
+    @Test
+    public void filledListingIsReadyAfterTheQuietPeriod() throws Exception {
+        assertTrue(readiness.await(driver(24L), "devpost-listing", readiness.countStable(".hackathon-tile")));
+    }
+
+    @Test
+    public void listingStillLoadingTimesOut() throws Exception {
+        // -1: the script reports the document as still loading
+        assertFalse(readiness.await(driver(-1L), "devpost-listing", readiness.countStable(".hackathon-tile"), 100));
+    }
+
+    /** A driver whose scripts always return {@code count}. */
+    private static WebDriver driver(long count) {
+        return (WebDriver) Proxy.newProxyInstance(PageReadinessTest.class.getClassLoader(),
+                new Class<?>[] { WebDriver.class, JavascriptExecutor.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("executeScript"))
+                        return count;
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
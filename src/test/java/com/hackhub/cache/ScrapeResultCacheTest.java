@@ -0,0 +1,99 @@
+package com.hackhub.cache;
+
+import com.hackhub.model.Event;
+import com.hackhub.model.dto.ScrapeResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ScrapeResultCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    private ScrapeResult events(int n) {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Event event = new Event();
+            event.setTitle("Event " + i);
+            events.add(event);
+        }
+        return ScrapeResult.complete(events);
+    }
+
+    @Test
+    public void testLargerResultServesSmallerCount() {
+        ScrapeResultCache cache = new ScrapeResultCache(60_000, 10, now::get);
+        cache.put("DEVPOST", " Java ", "Remote", 20, events(20));
+
+        List<Event> hit = cache.get("DEVPOST", "java", "remote", 5);
+        assertNotNull(hit);
+        assertEquals(5, hit.size());
+        assertEquals("Event 0", hit.get(0).getTitle());
+
+        assertNull(cache.get("DEVPOST", "java", "remote", 30));
+        assertEquals(1L, cache.getStats().get("hits"));
+        assertEquals(1L, cache.getStats().get("misses"));
+    }
+
+    @Test
+    public void testShortResultServesAnyCount() {
+        ScrapeResultCache cache = new ScrapeResultCache(60_000, 10, now::get);
+        cache.put("MLH", "", "", 50, events(12));
+
+        List<Event> hit = cache.get("MLH", "", "", 50);
+        assertNotNull(hit);
+        assertEquals(12, hit.size());
+    }
+
+    @Test
+    public void testEntriesExpireAfterTtl() {
+        ScrapeResultCache cache = new ScrapeResultCache(60_000, 10, now::get);
+        cache.put("MLH", "", "", 10, events(10));
+
+        now.addAndGet(60_000);
+        assertNull(cache.get("MLH", "", "", 10));
+        assertEquals(1L, cache.getStats().get("expirations"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        ScrapeResultCache cache = new ScrapeResultCache(60_000, 2, now::get);
+        cache.put("DEVPOST", "a", "", 5, events(5));
+        cache.put("DEVPOST", "b", "", 5, events(5));
+        cache.get("DEVPOST", "a", "", 5);
+        cache.put("DEVPOST", "c", "", 5, events(5));
+
+        assertNotNull(cache.get("DEVPOST", "a", "", 5));
+        assertNull(cache.get("DEVPOST", "b", "", 5));
+        assertEquals(1L, cache.getStats().get("evictions"));
+    }
+
+    @Test
+    public void testPartialResultIsNotCached() {
+        ScrapeResultCache cache = new ScrapeResultCache(60_000, 10, now::get);
+        // A scrape that failed after 3 of 50 events must not pass for an exhausted source
+        cache.put("DEVPOST", "", "", 50, ScrapeResult.partial(events(3).events()));
+
+        assertNull(cache.get("DEVPOST", "", "", 50));
+        assertNull(cache.get("DEVPOST", "", "", 1));
+    }
+
+    @Test
+    public void testCallersGetTheirOwnCopies() {
+        ScrapeResultCache cache = new ScrapeResultCache(60_000, 10, now::get);
+        ScrapeResult scraped = events(2);
+        cache.put("DEVPOST", "", "", 2, scraped);
+        scraped.events().get(0).setTitle("Changed by the scraper");
+
+        List<Event> first = cache.get("DEVPOST", "", "", 2);
+        assertEquals("Event 0", first.get(0).getTitle());
+        first.get(0).setTitle("Changed by a response");
+        assertEquals("Event 0", cache.get("DEVPOST", "", "", 2).get(0).getTitle());
+    }
+}
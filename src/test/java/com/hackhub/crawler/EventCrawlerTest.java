@@ -0,0 +1,85 @@
+package com.hackhub.crawler;
+
+import com.hackhub.geo.Gazetteer;
+import com.hackhub.model.Event;
+import com.hackhub.model.dto.ScrapeResult;
+import com.hackhub.service.ScraperService;
+import com.hackhub.store.CrawlReport;
+import com.hackhub.store.EventStore;
+import com.hackhub.util.EventKeys;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventCrawlerTest {
+
+    private Event event(String title) {
+        Event event = new Event();
+        event.setProvider("DEVPOST");
+        event.setTitle(title);
+        event.setDate("Jan 1");
+        event.setUrl("https://example.com/" + title);
+        event.setFingerprint(EventKeys.fingerprint(title, "Jan 1"));
+        return EventKeys.assign(event);
+    }
+
+    /** Answers every Devpost crawl with the given result and MLH with nothing. */
+    private static ScraperService scraper(ScrapeResult devpost) {
+        return new ScraperService() {
+            @Override
+            public ScrapeResult scrapeDevpost(String domain, String location, int count) {
+                return devpost;
+            }
+
+            @Override
+            public ScrapeResult scrapeMlh(String domain, String location, int count) {
+                return ScrapeResult.complete(List.of());
+            }
+
+            @Override
+            public void streamDevpost(String domain, String location, int count, Consumer<Event> onEvent,
+                    Runnable onComplete) {
+                onComplete.run();
+            }
+
+            @Override
+            public void streamMlh(String domain, String location, int count, Consumer<Event> onEvent,
+                    Runnable onComplete) {
+                onComplete.run();
+            }
+        };
+    }
+
+    @Test
+    public void testCompleteCrawlReplacesProvider() {
+        EventStore store = new EventStore(null, new Gazetteer(), 60_000);
+        store.merge(List.of(event("Alpha"), event("Beta")));
+        EventCrawler crawler = new EventCrawler(scraper(ScrapeResult.complete(List.of(event("Alpha")))),
+                store, true, 10, 10);
+        crawler.crawl();
+
+        assertEquals(1, store.query("DEVPOST", null, null, 10).size());
+        assertEquals(new CrawlReport("DEVPOST", 0, 0, 1, 1), crawler.getLastReports().get("DEVPOST"));
+        assertFalse(store.isStale("DEVPOST"));
+    }
+
+    @Test
+    public void testPartialCrawlDoesNotEvict() {
+        EventStore store = new EventStore(null, new Gazetteer(), 60_000);
+        store.merge(List.of(event("Alpha"), event("Beta")));
+        EventCrawler crawler = new EventCrawler(
+                scraper(ScrapeResult.partial(List.of(event("Alpha"), event("Gamma")))), store, true, 10, 10);
+        crawler.crawl();
+
+        List<String> titles = store.query("DEVPOST", null, null, 10).stream().map(Event::getTitle).toList();
+        assertEquals(3, titles.size());
+        assertTrue(titles.contains("Beta"));
+        assertFalse(crawler.getLastReports().containsKey("DEVPOST"));
+        assertTrue(store.isStale("DEVPOST"));
+    }
+}
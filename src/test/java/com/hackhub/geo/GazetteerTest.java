@@ -0,0 +1,49 @@
+package com.hackhub.geo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class GazetteerTest {
+
+    private final Gazetteer gazetteer = new Gazetteer();
+
+    private void assertNear(double lat, double lon, String location) {
+        GeoPoint point = gazetteer.resolve(location);
+        assertEquals(lat, point.lat(), 0.5, location);
+        assertEquals(lon, point.lon(), 0.5, location);
+    }
+
+    @Test
+    public void testCitiesAreDisambiguatedByRegionOrCountry() {
+        assertNear(42.37, -71.11, "Cambridge, MA");
+        assertNear(52.21, 0.12, "Cambridge, UK");
+        assertNear(42.98, -81.25, "London, Ontario, Canada");
+        assertNear(51.51, -0.13, "London");
+        assertNear(38.91, -77.04, "Washington, D.C.");
+        assertNear(47.61, -122.33, "Seattle, Washington");
+        assertNear(45.50, -73.57, "Montréal");
+        assertNear(42.36, -71.06, "Boston, MA 02115");
+    }
+
+    @Test
+    public void testFallsBackToRegionOrCountry() {
+        // Paris, France would be wrong
+        assertNear(31.97, -99.90, "Paris, Texas");
+        assertNear(51.17, 10.45, "Germany");
+        assertEquals(GeoPoint.Precision.REGION, gazetteer.resolve("Paris, Texas").precision());
+        assertEquals(GeoPoint.Precision.COUNTRY, gazetteer.resolve("Germany").precision());
+        assertEquals(GeoPoint.Precision.CITY, gazetteer.resolve("Berlin, Germany").precision());
+        assertNull(gazetteer.resolve("Online"));
+        assertNull(gazetteer.resolve("Everywhere, Worldwide"));
+    }
+
+    @Test
+    public void testResultsAreCached() {
+        gazetteer.resolve("Toronto, ON");
+        gazetteer.resolve("Toronto, ON");
+        gazetteer.resolve("Online");
+        assertEquals(2, gazetteer.cachedCount());
+    }
+}
@@ -20,7 +20,7 @@ public class ScraperServiceTest {
     @Test
     public void testScrapeDevpost() {
         // Basic connectivity test
-        List<Event> events = scraperService.scrapeDevpost("Java", "", 1);
+        List<Event> events = scraperService.scrapeDevpost("Java", "", 1).events();
         System.out.println("Devpost Events Found: " + events.size());
         if (!events.isEmpty()) {
             System.out.println("First Event: " + events.get(0).getTitle());
@@ -32,7 +32,7 @@ public class ScraperServiceTest {
     public void testScrapeMlh() {
         // Test MLH scraping logic
         // Using "hackathon" generic query or empty to just get list
-        List<Event> events = scraperService.scrapeMlh("", "", 1);
+        List<Event> events = scraperService.scrapeMlh("", "", 1).events();
 
         System.out.println("MLH Events Found: " + events.size());
         if (!events.isEmpty()) {
@@ -0,0 +1,75 @@
+package com.hackhub.service.impl;
+
+import com.hackhub.model.Event;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScraperServiceImplTest {
+
+    private static final String LISTING = """
+            <div class="challenges">
+              <div class="hackathon-tile">
+                <a href="https://climate-hack.devpost.com/?ref_feature=challenge">
+                  <img src="//d112y698adiu2z.cloudfront.net/climate.png">
+                  <h3>Climate Hack</h3>
+                  <div class="info">Online</div>
+                  <div class="submission-period">Oct 01 - Nov 10, 2026</div>
+                  <time>Oct 01 - Nov 10, 2026</time>
+                </a>
+              </div>
+              <div class="hackathon-tile">
+                <a href="/hackathons/untitled"><span>No title here</span></a>
+              </div>
+            </div>
+            """;
+
+    @Test
+    public void parsesTilesFromPageSnapshot() {
+        Document doc = Jsoup.parse(LISTING, "https://devpost.com/hackathons?page=1");
+
+        Event event = ScraperServiceImpl.parseDevpostTile(doc.select(".hackathon-tile").get(0));
+        assertEquals("Climate Hack", event.getTitle());
+        assertEquals("https://climate-hack.devpost.com/?ref_feature=challenge", event.getUrl());
+        assertEquals("Online", event.getLocation());
+        assertEquals("Oct 01 - Nov 10, 2026", event.getDate());
+        assertEquals("https://d112y698adiu2z.cloudfront.net/climate.png", event.getImageUrl());
+        assertEquals("DEVPOST", event.getProvider());
+        assertNotNull(event.getNaturalKey());
+        assertNotNull(event.getFingerprint());
+
+        Event bare = ScraperServiceImpl.parseDevpostTile(doc.select(".hackathon-tile").get(1));
+        assertEquals("Unknown", bare.getTitle());
+        assertEquals("https://devpost.com/hackathons/untitled", bare.getUrl());
+        assertNull(bare.getLocation());
+    }
+
+    @Test
+    public void buildsMlhEventsFromScriptJson() {
+        List<ScraperServiceImpl.MlhCard> cards = ScraperServiceImpl.parseMlhCards("""
+                [{"title":"HackMIT","url":"https://hackmit.org/","location":"Cambridge, MA",
+                  "date":"SEP 19TH - 21ST","imageUrl":null},
+                 {"title":null,"url":"https://nameless.example/","location":null,"date":null,"imageUrl":null}]
+                """);
+        assertEquals(2, cards.size());
+
+        Event event = ScraperServiceImpl.toMlhEvent(cards.get(0));
+        assertEquals("HackMIT", event.getTitle());
+        assertEquals("https://hackmit.org/", event.getUrl());
+        assertEquals("Cambridge, MA", event.getLocation());
+        assertNull(event.getImageUrl());
+        assertEquals("MLH", event.getProvider());
+        assertNotNull(event.getFingerprint());
+
+        // A card without a name is skipped rather than failing the page
+        assertNull(ScraperServiceImpl.toMlhEvent(cards.get(1)));
+        assertTrue(ScraperServiceImpl.parseMlhCards(null).isEmpty());
+    }
+}
@@ -0,0 +1,77 @@
+package com.hackhub.store;
+
+import com.hackhub.model.Event;
+import com.hackhub.util.EventKeys;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DuplicateDetectorTest {
+
+    private Event event(String provider, String title, String date, String location) {
+        Event event = new Event();
+        event.setProvider(provider);
+        event.setTitle(title);
+        event.setDate(date);
+        event.setLocation(location);
+        event.setUrl("https://" + provider.toLowerCase() + ".example.com/" + title.replace(' ', '-'));
+        return EventKeys.assign(event);
+    }
+
+    @Test
+    public void testCrossListedEventsAreLinked() {
+        DuplicateDetector detector = new DuplicateDetector();
+        Event devpost = event("DEVPOST", "HackMIT 2026", "Sep 12 - 14, 2026", "Cambridge, MA");
+        Event online = event("DEVPOST", "AI for Good Global Hackathon", "Jan 10 - Feb 12, 2026", "Online");
+        detector.add(devpost);
+        detector.add(online);
+
+        Event mlh = event("MLH", "HackMIT", "SEP 13TH - 14TH", "Cambridge, Massachusetts");
+        assertEquals(Set.of(devpost.getNaturalKey()), detector.add(mlh));
+        assertEquals(Set.of(mlh.getNaturalKey()), detector.duplicatesOf(devpost.getNaturalKey()));
+        assertEquals(Set.of(online.getNaturalKey()),
+                detector.add(event("MLH", "AI for Good Global", "JAN 10TH - 12TH", "Everywhere, Worldwide")));
+    }
+
+    @Test
+    public void testDifferentDatesPlacesOrTitlesAreNotLinked() {
+        DuplicateDetector detector = new DuplicateDetector();
+        detector.add(event("DEVPOST", "HackMIT 2026", "Sep 12 - 14, 2026", "Cambridge, MA"));
+
+        assertTrue(detector.add(event("MLH", "HackMIT", "Mar 12TH - 14TH", "Cambridge, MA")).isEmpty());
+        assertTrue(detector.add(event("MLH", "HackMIT Online", "Sep 12TH - 14TH", "Online")).isEmpty());
+        assertTrue(detector.add(event("MLH", "HackNC", "Sep 12TH - 14TH", "Cambridge, MA")).isEmpty());
+        // Same provider is never a cross-listing
+        assertTrue(detector.add(event("DEVPOST", "HackMIT", "Sep 12 - 14, 2026", "Cambridge, MA")).isEmpty());
+    }
+
+    @Test
+    public void testDatesCompareAcrossYears() {
+        DuplicateDetector detector = new DuplicateDetector();
+        Event newYear = event("DEVPOST", "Midnight Hacks 2026", "Dec 31, 2025 - Jan 2, 2026", "Boston, MA");
+        detector.add(newYear);
+
+        // A year apart is another edition, not a cross-listing
+        assertTrue(detector.add(event("MLH", "Midnight Hacks", "Dec 30, 2026 - Jan 1, 2027", "Boston, MA")).isEmpty());
+        // Without a year, the start is taken in whichever year is closest
+        assertEquals(Set.of(newYear.getNaturalKey()),
+                detector.add(event("MLH", "Midnight Hacks", "JAN 1ST - 2ND", "Boston, Massachusetts")));
+    }
+
+    @Test
+    public void testRemoveUnlinks() {
+        DuplicateDetector detector = new DuplicateDetector();
+        Event devpost = event("DEVPOST", "Hack the North 2026", "Sep 18 - 20, 2026", "Waterloo, ON");
+        Event mlh = event("MLH", "Hack The North", "SEP 18TH - 20TH", "Waterloo, Ontario");
+        detector.add(devpost);
+        detector.add(mlh);
+        assertEquals(2, detector.linkedCount());
+
+        detector.remove(mlh.getNaturalKey());
+        assertTrue(detector.duplicatesOf(devpost.getNaturalKey()).isEmpty());
+        assertEquals(0, detector.linkedCount());
+    }
+}
@@ -0,0 +1,71 @@
+package com.hackhub.store;
+
+import com.hackhub.model.Event;
+import com.hackhub.util.EventKeys;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventIndexTest {
+
+    private Event event(String provider, String title, String location) {
+        Event event = new Event();
+        event.setProvider(provider);
+        event.setTitle(title);
+        event.setLocation(location);
+        event.setUrl("https://example.com/" + title.replace(' ', '-'));
+        return EventKeys.assign(event);
+    }
+
+    @Test
+    public void testRemoteSynonymsShareOneBucket() {
+        assertTrue(EventMatcher.matchesLocation("Online", "remote"));
+        assertTrue(EventMatcher.matchesLocation("Worldwide", "Everywhere"));
+        assertFalse(EventMatcher.matchesLocation("New York, NY", "remote"));
+        assertTrue(EventMatcher.matchesLocation("New York, NY", "new york"));
+        assertTrue(EventMatcher.matchesLocation("anything", ""));
+    }
+
+    @Test
+    public void testDomainMatchesWholeTerms() {
+        Event java = event("MLH", "Java Jam", "Online");
+        assertTrue(EventMatcher.matchesDomain(java, "java"));
+        assertFalse(EventMatcher.matchesDomain(event("MLH", "JavaScript Days", "Online"), "java"));
+    }
+
+    @Test
+    public void testQueryIntersectsPostings() {
+        EventIndex index = new EventIndex();
+        Event a = event("DEVPOST", "AI for Good", "Online");
+        Event b = event("MLH", "AI Hack Paris", "Paris, France");
+        Event c = event("MLH", "Web3 Summit", "Worldwide");
+        index.add(a);
+        index.add(b);
+        index.add(c);
+
+        assertEquals(Set.of(a.getNaturalKey(), b.getNaturalKey()), index.query(null, "ai", null));
+        assertEquals(Set.of(a.getNaturalKey(), c.getNaturalKey()), index.query(null, null, "remote"));
+        assertEquals(Set.of(b.getNaturalKey()), index.query("MLH", "ai", "paris"));
+        assertEquals(Set.of(), index.query("DEVPOST", "web3", null));
+        assertEquals(3, index.query(null, null, null).size());
+    }
+
+    @Test
+    public void testReindexRemovesOldTerms() {
+        EventIndex index = new EventIndex();
+        Event a = event("MLH", "Old Name", "Berlin");
+        index.add(a);
+        a.setTitle("New Name");
+        a.setLocation("Online");
+        index.add(a);
+
+        assertTrue(index.query(null, "old", null).isEmpty());
+        assertTrue(index.query(null, null, "berlin").isEmpty());
+        assertEquals(Set.of(a.getNaturalKey()), index.query(null, "new", "online"));
+        assertEquals(1, index.size());
+    }
+}
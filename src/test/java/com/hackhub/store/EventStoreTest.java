@@ -0,0 +1,123 @@
+package com.hackhub.store;
+
+import com.hackhub.geo.Gazetteer;
+import com.hackhub.geo.GeoPoint;
+import com.hackhub.model.Event;
+import com.hackhub.util.EventKeys;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventStoreTest {
+
+    private Event event(String title, String date, String description) {
+        Event event = new Event();
+        event.setProvider("DEVPOST");
+        event.setTitle(title);
+        event.setDate(date);
+        event.setDescription(description);
+        event.setUrl("https://example.com/" + title.replace(' ', '-'));
+        event.setFingerprint(EventKeys.fingerprint(title, date));
+        return EventKeys.assign(event);
+    }
+
+    @Test
+    public void testReplaceProviderReportsChanges() {
+        EventStore store = new EventStore(null, new Gazetteer(), 60_000);
+        CrawlReport first = store.replaceProvider("DEVPOST",
+                List.of(event("Alpha", "Jan 1", "a"), event("Beta", "Feb 1", "b"), event("Gamma", "Mar 1", "c")));
+        assertEquals(new CrawlReport("DEVPOST", 3, 0, 0, 0), first);
+
+        CrawlReport second = store.replaceProvider("DEVPOST",
+                List.of(event("Alpha", "Jan 1", "a"), event("Beta", "Feb 2", "b"), event("Delta", "Apr 1", "d")));
+        assertEquals(new CrawlReport("DEVPOST", 1, 1, 1, 1), second);
+    }
+
+    @Test
+    public void testReuseUnchangedCopiesDetails() {
+        EventStore store = new EventStore(null, new Gazetteer(), 60_000);
+        store.replaceProvider("DEVPOST", List.of(event("Alpha", "Jan 1", "<p>details</p>")));
+
+        Event same = event("Alpha", "Jan 1", null);
+        assertTrue(store.reuseUnchanged(same));
+        assertEquals("<p>details</p>", same.getDescription());
+
+        Event moved = event("Alpha", "Jan 8", null);
+        assertFalse(store.reuseUnchanged(moved));
+        assertNull(moved.getDescription());
+    }
+
+    @Test
+    public void testCrossListedEventsAreReturnedOnce() {
+        EventStore store = new EventStore(null, new Gazetteer(), 60_000);
+        Event mlh = event("HackMIT", "Sep 13", null);
+        mlh.setProvider("MLH");
+        EventKeys.assign(mlh);
+        store.replaceProvider("MLH", List.of(mlh));
+        store.replaceProvider("DEVPOST", List.of(event("HackMIT 2026", "Sep 12", "<p>details</p>")));
+
+        List<Event> all = store.query(null, null, null, 10);
+        assertEquals(1, all.size());
+        assertEquals("DEVPOST", all.get(0).getProvider());
+        assertEquals(mlh.getUrl(), all.get(0).getAlsoListedOn().get("MLH"));
+        assertEquals(1, store.query("MLH", null, null, 10).size());
+    }
+
+    @Test
+    public void testMatchOnTheOtherListingReturnsTheCanonicalEvent() {
+        EventStore store = new EventStore(null, new Gazetteer(), 60_000);
+        Event mlh = event("HackMIT", "Sep 13", null);
+        mlh.setProvider("MLH");
+        mlh.setLocation("Cambridge, MA");
+        EventKeys.assign(mlh);
+        store.replaceProvider("MLH", List.of(mlh));
+        store.replaceProvider("DEVPOST", List.of(event("HackMIT 2026", "Sep 12", "<p>details</p>")));
+
+        // Only the MLH listing has a location, but the Devpost one is canonical
+        List<Event> found = store.query(null, null, "Cambridge", 10);
+        assertEquals(1, found.size());
+        assertEquals("DEVPOST", found.get(0).getProvider());
+        assertEquals("Cambridge, MA", found.get(0).getLocation());
+    }
+
+    @Test
+    public void testQueryReturnsCopies() {
+        EventStore store = new EventStore(null, new Gazetteer(), 60_000);
+        store.replaceProvider("DEVPOST", List.of(event("Alpha", "Jan 1", "a")));
+
+        Event returned = store.query("DEVPOST", null, null, 10).get(0);
+        returned.setDistanceKm(12.0);
+        returned.setDescription("annotated for one response");
+
+        Event again = store.query("DEVPOST", null, null, 10).get(0);
+        assertNull(again.getDistanceKm());
+        assertEquals("a", again.getDescription());
+    }
+
+    @Test
+    public void testNearestSortsByDistance() {
+        EventStore store = new EventStore(null, new Gazetteer(), 60_000);
+        Event boston = event("Boston Hacks", "Oct 1", null);
+        boston.setLocation("Boston, MA");
+        Event cambridge = event("Harvard Hacks", "Oct 8", null);
+        cambridge.setLocation("Cambridge, MA");
+        Event online = event("Cloud Jam", "Oct 1", null);
+        online.setLocation("Online");
+        Event toronto = event("North Hacks", "Oct 1", null);
+        toronto.setLocation("Toronto, ON, Canada");
+        // Resolves to the state's centroid, 27 km out, which says nothing about the venue
+        Event state = event("Bay State Hacks", "Oct 1", null);
+        state.setLocation("Massachusetts");
+        store.replaceProvider("DEVPOST", List.of(toronto, online, cambridge, state, boston));
+
+        List<Event> near = store.nearest(null, null, new GeoPoint(42.36, -71.06), 50, 10);
+        assertEquals(List.of("Boston Hacks", "Harvard Hacks"), near.stream().map(Event::getTitle).toList());
+        assertEquals(0.0, near.get(0).getDistanceKm(), 0.5);
+        assertEquals(1, store.nearest(null, "harvard", new GeoPoint(42.36, -71.06), 50, 10).size());
+    }
+}
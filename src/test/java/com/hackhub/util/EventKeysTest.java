@@ -0,0 +1,35 @@
+package com.hackhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class EventKeysTest {
+
+    @Test
+    public void testSchemeHostFragmentAndTrailingSlashAreNormalized() {
+        assertEquals("https://foo.devpost.com", EventKeys.normalizeUrl("HTTPS://Foo.devpost.com/?ref=x#top"));
+        assertEquals("https://mlh.io/Events/Spring", EventKeys.normalizeUrl(" https://MLH.io/Events/Spring/ "));
+    }
+
+    @Test
+    public void testOnlyTrackingParametersAreDropped() {
+        assertEquals("https://devpost.com/hackathons?id=5",
+                EventKeys.normalizeUrl("https://devpost.com/hackathons?ref=x&id=5"));
+        assertEquals("https://devpost.com/hackathons?id=5",
+                EventKeys.normalizeUrl("https://devpost.com/hackathons?id=5&utm_source=x"));
+        assertEquals("https://devpost.com/hackathons?id=5&page=2",
+                EventKeys.normalizeUrl("https://devpost.com/hackathons?utm_medium=a&id=5&REF=b&page=2&utm_campaign=c"));
+        assertEquals("https://devpost.com/hackathons",
+                EventKeys.normalizeUrl("https://devpost.com/hackathons/?utm_source=x&ref=y"));
+    }
+
+    @Test
+    public void testTrackingDoesNotSplitOrMergeKeys() {
+        assertEquals(EventKeys.naturalKey("DEVPOST", "https://x.devpost.com/?id=5", "A"),
+                EventKeys.naturalKey("DEVPOST", "https://x.devpost.com/?id=5&utm_source=mail", "A"));
+        assertNotEquals(EventKeys.naturalKey("DEVPOST", "https://x.devpost.com/?ref=a&id=5", "A"),
+                EventKeys.naturalKey("DEVPOST", "https://x.devpost.com/?ref=a&id=6", "A"));
+    }
+}
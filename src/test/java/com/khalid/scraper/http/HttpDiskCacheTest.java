@@ -0,0 +1,50 @@
+package com.khalid.scraper.http;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class HttpDiskCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void storedEntrySurvivesRestart() throws IOException {
+        HttpDiskCache cache = new HttpDiskCache(dir, 1024 * 1024);
+        cache.put("https://a.devpost.com/", "\"v1\"", null, "<html>café</html>");
+
+        HttpDiskCache.Entry entry = new HttpDiskCache(dir, 1024 * 1024).get("https://a.devpost.com/");
+        assertNotNull(entry);
+        assertEquals("\"v1\"", entry.etag());
+        assertNull(entry.lastModified());
+        assertEquals("\"v1\"", entry.validator());
+        assertEquals("<html>café</html>", entry.body());
+        assertNull(cache.get("https://b.devpost.com/"));
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvictedFirst() throws IOException {
+        String body = "x".repeat(10_000); // compresses to a few dozen bytes
+        HttpDiskCache probe = new HttpDiskCache(dir.resolve("probe"), Long.MAX_VALUE);
+        probe.put("https://probe/", "e", null, body);
+        long entrySize = (long) probe.getStats().get("bytes");
+
+        HttpDiskCache cache = new HttpDiskCache(dir.resolve("lru"), entrySize * 2 + entrySize / 2);
+        cache.put("https://a/", "e", null, body);
+        cache.put("https://b/", "e", null, body);
+        cache.get("https://a/"); // a is now more recent than b
+        cache.put("https://c/", "e", null, body);
+
+        assertNotNull(cache.get("https://a/"));
+        assertNull(cache.get("https://b/"));
+        assertNotNull(cache.get("https://c/"));
+        assertEquals(1L, cache.getStats().get("evictions"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.khalid.scraper.output;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.khalid.scraper.model.HackathonDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HackathonWriterTest {
+
+    // Quotes, backslashes, a line break, markup and non-ASCII text
+    private static final String TRICKY = "Hack \"the\" C:\\planet\nin Zürich </script> 🚀";
+
+    @TempDir
+    Path dir;
+
+    private static HackathonDTO hackathon(String title, String description) {
+        HackathonDTO dto = new HackathonDTO();
+        dto.setTitle(title);
+        dto.setDescription(description);
+        dto.setRegistrationsCount(42);
+        return dto;
+    }
+
+    private static final List<HackathonDTO> HACKATHONS = List.of(
+            hackathon("Plain Hack", "Build something"),
+            hackathon(TRICKY, "<p>" + TRICKY + "</p>"));
+
+    private Path write(String name, HackathonWriter.Format format, boolean gzip, List<HackathonDTO> dtos)
+            throws IOException {
+        Path file = dir.resolve(name);
+        try (HackathonWriter writer = new HackathonWriter(file, format, gzip)) {
+            for (HackathonDTO dto : dtos) {
+                writer.write(dto);
+            }
+            assertEquals(dtos.size(), writer.getWritten());
+        }
+        return file;
+    }
+
+    private static String read(Path file, boolean gzip) throws IOException {
+        if (!gzip)
+            return Files.readString(file, StandardCharsets.UTF_8);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            // Throws "Unexpected end of ZLIB input stream" if the writer never finished the stream
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<JsonObject> parse(String text, HackathonWriter.Format format) {
+        List<JsonObject> out = new ArrayList<>();
+        if (format == HackathonWriter.Format.JSON) {
+            JsonArray array = JsonParser.parseString(text).getAsJsonArray();
+            array.forEach(element -> out.add(element.getAsJsonObject()));
+        } else {
+            assertTrue(text.isEmpty() || text.endsWith("\n"), "NDJSON should end with a newline");
+            for (String line : text.split("\n")) {
+                if (!line.isEmpty())
+                    out.add(JsonParser.parseString(line).getAsJsonObject());
+            }
+        }
+        return out;
+    }
+
+    private static void assertRoundTrip(List<HackathonDTO> expected, List<JsonObject> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getTitle(), actual.get(i).get("title").getAsString());
+            assertEquals(expected.get(i).getDescription(), actual.get(i).get("description").getAsString());
+            assertEquals(42, actual.get(i).get("registrationsCount").getAsInt());
+            assertTrue(actual.get(i).has("scrapedAt"));
+        }
+    }
+
+    @Test
+    public void everyFormatRoundTrips() throws IOException {
+        for (HackathonWriter.Format format : HackathonWriter.Format.values()) {
+            for (boolean gzip : new boolean[] { false, true }) {
+                Path file = write(format + "-" + gzip, format, gzip, HACKATHONS);
+                assertRoundTrip(HACKATHONS, parse(read(file, gzip), format));
+            }
+        }
+    }
+
+    @Test
+    public void emptyCrawlsAreStillValid() throws IOException {
+        for (HackathonWriter.Format format : HackathonWriter.Format.values()) {
+            for (boolean gzip : new boolean[] { false, true }) {
+                Path file = write("empty-" + format + "-" + gzip, format, gzip, List.of());
+                String text = read(file, gzip);
+                assertEquals(format == HackathonWriter.Format.JSON ? "[]" : "", text.trim());
+                assertEquals(List.of(), parse(text, format));
+            }
+        }
+    }
+
+    @Test
+    public void ndjsonKeepsOneRecordPerLine() throws IOException {
+        Path file = write("lines.ndjson", HackathonWriter.Format.NDJSON, false, HACKATHONS);
+        // The line break inside TRICKY is escaped, not written raw
+        assertEquals(HACKATHONS.size(), Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void gzipStreamIsFinishedOnClose() throws IOException {
+        Path file = write("finished.json.gz", HackathonWriter.Format.JSON, true, HACKATHONS);
+        byte[] bytes = Files.readAllBytes(file);
+        int uncompressed = read(file, true).getBytes(StandardCharsets.UTF_8).length;
+        // finish() writes the trailer: CRC-32 then the uncompressed size, little-endian
+        int trailerSize = ByteBuffer.wrap(Arrays.copyOfRange(bytes, bytes.length - 4, bytes.length))
+                .order(ByteOrder.LITTLE_ENDIAN).getInt();
+        assertEquals(uncompressed, trailerSize);
+    }
+}
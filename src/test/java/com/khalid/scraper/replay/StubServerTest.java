@@ -0,0 +1,97 @@
+package com.khalid.scraper.replay;
+
+import com.khalid.scraper.model.HackathonDTO;
+import com.khalid.scraper.service.DevpostService;
+import com.khalid.scraper.util.HostRateLimiter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StubServerTest {
+
+    private static final String API = DevpostService.DEFAULT_API_BASE_URL;
+    private static final String CHALLENGE = "<html><body>"
+            + "<div id=\"challenge-description\"><p>Build tools for the planet.</p></div>"
+            + "<div id=\"challenge-requirements\">A repo and a video</div>"
+            + "<div id=\"judges\">Ada Lovelace</div>"
+            + "<div id=\"judging-criteria\">Impact</div>"
+            + "</body></html>";
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    public static void unthrottleStub() {
+        HostRateLimiter.shared().setLimit("127.0.0.1", 1000, 100);
+    }
+
+    @Test
+    public void devpostCrawlRunsAgainstRecordedFixtures() throws Exception {
+        FixtureRecorder recorder = new FixtureRecorder();
+        recorder.start(dir);
+        recorder.record(API + "?page=1", 200, "application/json", "{\"hackathons\": ["
+                + "{\"title\": \"Climate Hack\", \"url\": \"https://climate.devpost.com/\"},"
+                + "{\"title\": \"Open Hack\", \"url\": \"https://open.devpost.com\"}]}");
+        recorder.record(API + "?page=2", 200, "application/json", "{\"hackathons\": []}");
+        recorder.record("https://climate.devpost.com/", 200, "text/html", CHALLENGE);
+        recorder.record("https://open.devpost.com/#top", 200, "text/html", CHALLENGE);
+        recorder.stop();
+        assertEquals(4, recorder.recordedCount());
+
+        try (StubServer stub = new StubServer(dir, 0, StubServer.Options.NONE)) {
+            String apiUrl = stub.urlFor(API);
+            assertEquals(stub.baseUrl() + "/devpost.com/api/hackathons", apiUrl);
+
+            List<HackathonDTO> dtos = new DevpostService(false, null, apiUrl).fetchHackathons(0);
+
+            assertEquals(2, dtos.size());
+            // Links inside the replayed API page point back at the stub
+            assertEquals(stub.baseUrl() + "/climate.devpost.com/", dtos.get(0).getUrl());
+            for (HackathonDTO dto : dtos) {
+                assertEquals("A repo and a video", dto.getRequirements());
+                assertEquals("Ada Lovelace", dto.getJudges());
+            }
+            assertEquals(0L, stub.getStats().get("misses"));
+        }
+    }
+
+    @Test
+    public void injectsErrorsAndAnswersUnknownUrlsWith404() throws Exception {
+        FixtureRecorder recorder = new FixtureRecorder();
+        recorder.start(dir);
+        recorder.record("https://mlh.io/seasons/2026/events", 200, "text/html", "<html></html>");
+        recorder.stop();
+
+        HttpClient client = HttpClient.newHttpClient();
+        try (StubServer stub = new StubServer(dir, 0, StubServer.Options.NONE)) {
+            assertEquals(200, get(client, stub.urlFor("https://mlh.io/seasons/2026/events")));
+            assertEquals(404, get(client, stub.urlFor("https://mlh.io/seasons/2025/events")));
+        }
+        try (StubServer failing = new StubServer(dir, 0, new StubServer.Options(0, 0, 1.0, 1))) {
+            assertEquals(503, get(client, failing.urlFor("https://mlh.io/seasons/2026/events")));
+            assertTrue((long) failing.getStats().get("injectedErrors") > 0);
+        }
+    }
+
+    @Test
+    public void keysIgnoreFragmentsAndCase() {
+        assertEquals("https://foo.devpost.com/", FixtureRecorder.key("HTTPS://Foo.devpost.com#top"));
+        assertEquals("https://devpost.com/api/hackathons?page=2",
+                FixtureRecorder.key("https://devpost.com/api/hackathons?page=2"));
+    }
+
+    private static int get(HttpClient client, String url) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+}
@@ -0,0 +1,75 @@
+package com.khalid.scraper.service;
+
+import com.khalid.scraper.model.HackathonDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DevpostApiParserTest {
+
+    private static String fixture() throws IOException {
+        try (InputStream in = DevpostApiParserTest.class.getResourceAsStream("/devpost/hackathons-page.json")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void streamingMatchesTreeDecoding() throws IOException {
+        String body = fixture();
+        List<HackathonDTO> streamed = DevpostApiParser.parse(new StringReader(body));
+        List<HackathonDTO> tree = DevpostApiParser.parseTree(body);
+
+        assertEquals(3, streamed.size());
+        assertEquals(tree.size(), streamed.size());
+        for (int i = 0; i < tree.size(); i++) {
+            HackathonDTO a = tree.get(i);
+            HackathonDTO b = streamed.get(i);
+            assertEquals(a.getTitle(), b.getTitle());
+            assertEquals(a.getUrl(), b.getUrl());
+            assertEquals(a.getOrganization(), b.getOrganization());
+            assertEquals(a.getLocation(), b.getLocation());
+            assertEquals(a.getStartDate(), b.getStartDate());
+            assertEquals(a.getEndDate(), b.getEndDate());
+            assertEquals(a.getPrizeAmount(), b.getPrizeAmount());
+            assertEquals(a.getRegistrationsCount(), b.getRegistrationsCount());
+            assertEquals(a.getFeatured(), b.getFeatured());
+            assertEquals(a.getOpenState(), b.getOpenState());
+            assertEquals(a.getThumbnailUrl(), b.getThumbnailUrl());
+            assertEquals(a.getBlurb(), b.getBlurb());
+            assertEquals(a.getRequirements(), b.getRequirements());
+            assertEquals(a.getJudges(), b.getJudges());
+            assertEquals(a.getJudgingCriteria(), b.getJudgingCriteria());
+        }
+    }
+
+    @Test
+    public void fieldsAreMappedWithFallbacks() throws IOException {
+        List<HackathonDTO> dtos = DevpostApiParser.parse(new StringReader(fixture()));
+
+        HackathonDTO online = dtos.get(0);
+        assertEquals("Online", online.getLocation());
+        assertEquals(1834, online.getRegistrationsCount());
+        assertTrue(online.getFeatured());
+        assertEquals("", online.getBlurb());
+
+        HackathonDTO campus = dtos.get(1);
+        assertEquals("One night, one campus, ship something.", campus.getBlurb()); // empty short_description skipped
+        assertEquals(212, campus.getRegistrationsCount());
+        assertEquals("Faculty panel", campus.getJudges());
+        assertEquals("", campus.getJudgingCriteria()); // arrays are not strings
+
+        HackathonDTO quantum = dtos.get(2);
+        assertEquals(null, quantum.getLocation());
+        assertEquals("0", quantum.getPrizeAmount());
+        assertEquals(7, quantum.getRegistrationsCount());
+        assertEquals("Intro challenge for quantum circuits", quantum.getBlurb());
+        assertEquals("Correctness", quantum.getJudgingCriteria());
+    }
+}
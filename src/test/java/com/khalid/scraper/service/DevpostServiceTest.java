@@ -0,0 +1,216 @@
+package com.khalid.scraper.service;
+
+import com.khalid.scraper.http.PageFetcher;
+import com.khalid.scraper.model.HackathonDTO;
+import com.khalid.scraper.util.HostRateLimiter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DevpostServiceTest {
+
+    private static final String CHALLENGE = "<html><body>"
+            + "<div id=\"challenge-description\"><p>Build tools for the planet.</p></div>"
+            + "</body></html>";
+
+    @BeforeAll
+    public static void unthrottleStub() {
+        HostRateLimiter.shared().setLimit("127.0.0.1", 1000, 100);
+    }
+
+    /** A local server on a free port; each test adds the paths it needs. */
+    private static HttpServer serve() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.start();
+        return server;
+    }
+
+    private static String baseUrl(HttpServer server) {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(301, -1);
+        exchange.close();
+    }
+
+    @Test
+    public void challengePagesFollowRedirects() throws Exception {
+        HttpServer server = serve();
+        try {
+            server.createContext("/old-hack", exchange -> redirect(exchange, "/new-hack"));
+            server.createContext("/new-hack", exchange -> respond(exchange, 200, "text/html", CHALLENGE));
+            DevpostService service = new DevpostService(false);
+
+            PageFetcher.PageResponse page = service.getPageFetcher().fetch(baseUrl(server) + "/old-hack");
+            assertTrue(page.isOk(), "status " + page.status());
+            assertEquals("/new-hack", page.uri().getPath());
+
+            // Blank rather than null, as the API parser leaves missing fields
+            HackathonDTO dto = new HackathonDTO();
+            dto.setUrl(baseUrl(server) + "/old-hack");
+            dto.setBlurb("");
+            dto.setRequirements("");
+            dto.setJudges("");
+            dto.setJudgingCriteria("");
+            service.enrichFromPage(dto);
+            assertTrue(dto.getDescription() != null && dto.getDescription().contains("Build tools"),
+                    "description " + dto.getDescription());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void listingFollowsRedirects() throws Exception {
+        HttpServer server = serve();
+        try {
+            server.createContext("/api/hackathons",
+                    exchange -> redirect(exchange, "/v2/hackathons?" + exchange.getRequestURI().getRawQuery()));
+            server.createContext("/v2/hackathons", exchange -> respond(exchange, 200, "application/json",
+                    "{\"hackathons\": [{\"title\": \"Moved Hack\", \"url\": \"https://moved.devpost.com/\"}]}"));
+            DevpostService service = new DevpostService(false, null, baseUrl(server) + "/api/hackathons");
+
+            List<HackathonDTO> dtos = service.fetchPage(1, null, false);
+            assertEquals(1, dtos.size());
+            assertEquals("Moved Hack", dtos.get(0).getTitle());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static HackathonDTO hackathon(String title) {
+        HackathonDTO dto = new HackathonDTO();
+        dto.setTitle(title);
+        return dto;
+    }
+
+    private static String listing(String... titles) {
+        StringBuilder json = new StringBuilder("{\"hackathons\": [");
+        for (int i = 0; i < titles.length; i++) {
+            json.append(i > 0 ? "," : "").append("{\"title\": \"").append(titles[i]).append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static int pageOf(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getQuery();
+        return Integer.parseInt(query.replaceAll(".*page=(\\d+).*", "$1"));
+    }
+
+    @Test
+    public void reorderBufferEmitsInPageOrder() {
+        List<String> titles = new ArrayList<>();
+        DevpostService.PageReorderBuffer buffer = new DevpostService.PageReorderBuffer(
+                new AtomicInteger(Integer.MAX_VALUE), dto -> titles.add(dto.getTitle()));
+
+        buffer.pageDone(3, List.of(hackathon("c")));
+        assertEquals(List.of(), titles);
+        buffer.pageDone(1, List.of(hackathon("a1"), hackathon("a2")));
+        assertEquals(List.of("a1", "a2"), titles);
+        buffer.pageDone(2, List.of(hackathon("b")));
+        assertEquals(List.of("a1", "a2", "b", "c"), titles);
+        assertEquals(3, buffer.getPagesEmitted());
+        assertFalse(buffer.isSinkFailed());
+    }
+
+    @Test
+    public void reorderBufferStopsBeforeTheLastPage() {
+        List<String> titles = new ArrayList<>();
+        AtomicInteger lastPage = new AtomicInteger(Integer.MAX_VALUE);
+        DevpostService.PageReorderBuffer buffer = new DevpostService.PageReorderBuffer(lastPage,
+                dto -> titles.add(dto.getTitle()));
+
+        buffer.pageDone(2, List.of(hackathon("b")));
+        buffer.pageDone(4, List.of(hackathon("d")));
+        // Page 3 came back empty or failed while page 1 was still enriching
+        lastPage.set(3);
+        buffer.pageDone(1, List.of(hackathon("a")));
+        assertEquals(List.of("a", "b"), titles);
+        assertEquals(2, buffer.getEmitted());
+    }
+
+    @Test
+    public void pipelineStopsAtTheFirstEmptyPage() throws Exception {
+        HttpServer server = serve();
+        try {
+            server.createContext("/api/hackathons", exchange -> {
+                int page = pageOf(exchange);
+                if (page == 1) {
+                    // Finishes after page 2, which must still come second
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                respond(exchange, 200, "application/json", page == 3 ? listing() : listing("P" + page));
+            });
+            DevpostService service = new DevpostService(false, null, baseUrl(server) + "/api/hackathons");
+
+            List<String> titles = new ArrayList<>();
+            DevpostService.PipelineResult result = service.fetchHackathonsPipelined(0, 4, 4,
+                    dto -> titles.add(dto.getTitle()));
+            assertEquals(List.of("P1", "P2"), titles);
+            assertEquals(2, result.emitted());
+            assertTrue(result.complete());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void pipelineMarksAFailedMiddlePageIncomplete() throws Exception {
+        HttpServer server = serve();
+        Map<Integer, AtomicInteger> requests = new ConcurrentHashMap<>();
+        try {
+            server.createContext("/api/hackathons", exchange -> {
+                int page = pageOf(exchange);
+                requests.computeIfAbsent(page, p -> new AtomicInteger()).incrementAndGet();
+                if (page == 2)
+                    respond(exchange, 503, "text/plain", "down");
+                else
+                    respond(exchange, 200, "application/json", page >= 4 ? listing() : listing("P" + page));
+            });
+            DevpostService service = new DevpostService(false, null, baseUrl(server) + "/api/hackathons");
+            service.setInitialRetryDelayMs(1);
+
+            List<String> titles = new ArrayList<>();
+            DevpostService.PipelineResult result = service.fetchHackathonsPipelined(0, 2, 2,
+                    dto -> titles.add(dto.getTitle()));
+            // Page 1 is kept; page 3 arrived but cannot follow the gap
+            assertEquals(List.of("P1"), titles);
+            assertFalse(result.complete());
+            assertEquals(4, requests.get(2).get(), "page 2 should be retried before giving up");
+        } finally {
+            server.stop(0);
+        }
+    }
+}
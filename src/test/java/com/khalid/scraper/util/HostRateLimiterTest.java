@@ -0,0 +1,56 @@
+package com.khalid.scraper.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HostRateLimiterTest {
+
+    @Test
+    public void subdomainsShareTheConfiguredHostBucket() {
+        HostRateLimiter limiter = new HostRateLimiter(1.0, 1);
+        limiter.configure(1.0, 1, Map.of("devpost.com", 5.0));
+
+        assertEquals("devpost.com", limiter.bucketKey(HostRateLimiter.hostOf("https://devpost.com/api/hackathons")));
+        assertEquals("devpost.com", limiter.bucketKey(HostRateLimiter.hostOf("https://foo-hacks.devpost.com/")));
+        assertEquals("devpost.com", limiter.bucketKey(HostRateLimiter.hostOf("https://www.devpost.com/hackathons")));
+        assertEquals("mlh.io", limiter.bucketKey(HostRateLimiter.hostOf("https://mlh.io/seasons/2026/events")));
+    }
+
+    @Test
+    public void urlsWithoutHostAreNotLimited() throws InterruptedException {
+        assertNull(HostRateLimiter.hostOf("about:blank"));
+        assertNull(HostRateLimiter.hostOf("/relative/path"));
+        HostRateLimiter limiter = new HostRateLimiter(1.0, 1);
+        limiter.acquire("about:blank");
+        assertTrue(limiter.getStats().isEmpty());
+    }
+
+    @Test
+    public void unparseableUrlsShareTheDefaultBucket() throws InterruptedException {
+        assertEquals(HostRateLimiter.UNPARSEABLE, HostRateLimiter.hostOf("https://devpost.com/?search=machine learning"));
+        HostRateLimiter limiter = new HostRateLimiter(1.0, 1);
+        limiter.acquire("https://devpost.com/?search=a b");
+        assertTrue(limiter.getStats().containsKey(HostRateLimiter.UNPARSEABLE));
+    }
+
+    @Test
+    public void burstIsServedImmediatelyThenPaced() throws InterruptedException {
+        HostRateLimiter limiter = new HostRateLimiter(1.0, 1);
+        limiter.setLimit("example.com", 20.0, 2);
+
+        long start = System.nanoTime();
+        limiter.acquire("https://example.com/a");
+        limiter.acquire("https://example.com/b");
+        long burstMs = (System.nanoTime() - start) / 1_000_000;
+        limiter.acquire("https://example.com/c");
+        long totalMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(burstMs < 40, "burst took " + burstMs + "ms");
+        assertTrue(totalMs >= 40, "third permit came after " + totalMs + "ms");
+    }
+}
@@ -0,0 +1,36 @@
+package com.khalid.scraper.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LogSamplerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void letsThroughAtMostPerSecondLinesPerKey() {
+        LogSampler sampler = new LogSampler(2);
+        long t = 5 * SECOND;
+
+        assertEquals(0L, sampler.sample("tile", t));
+        assertEquals(0L, sampler.sample("tile", t + 1));
+        assertEquals(-1L, sampler.sample("tile", t + 2));
+        assertEquals(-1L, sampler.sample("tile", t + 3));
+        // Other keys have their own budget
+        assertEquals(0L, sampler.sample("card", t + 4));
+
+        // Next window: the first line reports what was dropped
+        assertEquals(2L, sampler.sample("tile", t + SECOND));
+        assertEquals(0L, sampler.sample("tile", t + SECOND + 1));
+        assertEquals(2L, sampler.getStats().get("tile"));
+    }
+
+    @Test
+    public void zeroDisablesSampling() {
+        LogSampler sampler = new LogSampler(0);
+        for (int i = 0; i < 100; i++)
+            assertEquals(0L, sampler.sample("tile", i));
+        assertEquals(0, sampler.getStats().size());
+    }
+}
@@ -0,0 +1,56 @@
+package com.khalid.scraper.util;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ScrapeMetricsTest {
+
+    @Test
+    public void testProviderOfUrl() {
+        assertEquals("devpost", ScrapeMetrics.providerOf("https://hack-the-north.devpost.com/"));
+        assertEquals("devpost", ScrapeMetrics.providerOf("https://devpost.com/hackathons"));
+        assertEquals("mlh", ScrapeMetrics.providerOf("https://mlh.io/seasons/2026/events"));
+        assertEquals("external", ScrapeMetrics.providerOf("https://example.com"));
+        assertEquals("external", ScrapeMetrics.providerOf("about:blank"));
+    }
+
+    @Test
+    public void testRecordsTaggedTimer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            ScrapeMetrics.record("navigate", "devpost", ScrapeMetrics.SUCCESS, TimeUnit.MILLISECONDS.toNanos(40));
+            ScrapeMetrics.record("navigate", "devpost", ScrapeMetrics.SUCCESS, TimeUnit.MILLISECONDS.toNanos(60));
+            ScrapeMetrics.retry("devpost", "429");
+
+            Timer timer = registry.get("hackhub.scrape.navigate")
+                    .tag("provider", "devpost").tag("outcome", "success").timer();
+            assertEquals(2, timer.count());
+            assertEquals(100, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+            assertEquals(1.0, registry.get("hackhub.scrape.retries").tag("status", "429").counter().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    public void testCachedTimerReachesRegistriesAddedLater() {
+        ScrapeMetrics.record("parse", "mlh", ScrapeMetrics.SUCCESS, TimeUnit.MILLISECONDS.toNanos(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            ScrapeMetrics.record("parse", "mlh", ScrapeMetrics.SUCCESS, TimeUnit.MILLISECONDS.toNanos(5));
+
+            assertEquals(1, registry.get("hackhub.scrape.parse")
+                    .tag("provider", "mlh").tag("outcome", "success").timer().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+}